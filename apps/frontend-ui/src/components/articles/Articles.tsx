@@ -102,7 +102,7 @@ export const Articles = () => {
                   {article.title}
                 </h3>
                 <p className="text-gray-600 mb-4 line-clamp-3">
-                  {article.content}
+                  {article.excerpt ?? article.content}
                 </p>
                 <button className="text-blue-600 hover:text-blue-700 font-medium flex items-center gap-2 group">
                   Lire l'article
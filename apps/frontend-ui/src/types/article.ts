@@ -1,9 +1,19 @@
+export interface Author {
+  id: number;
+  username: string;
+  displayName: string;
+}
+
 export interface Article {
   id: number;
   title: string;
-  content: string;
+  // Lists return an excerpt, the full content only comes with a single article
+  content?: string;
+  excerpt?: string;
   imageUrl?: string;
   authorId: number;
+  author?: Author;
+  commentCount?: number;
   createdAt: string;
   updatedAt: string;
 }
@@ -1,5 +1,6 @@
 package sn.noreyni.springapi.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ArticleDto {
@@ -22,10 +23,16 @@ public class ArticleDto {
     private ArticleStatus status;
     private Long authorId;
     private UserDto author;
+    // First comments only, the rest is read from /comments/scroll starting at commentsCursor
     private List<CommentDto> comments;
+    private Long commentCount;
+    private String commentsCursor;
     private Integer views;
     private Integer likes;
     private List<TagDto> tags;
+    // Only feeds the ETag
+    @JsonIgnore
+    private Long contentVersion;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
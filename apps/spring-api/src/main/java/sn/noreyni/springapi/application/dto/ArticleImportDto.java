@@ -0,0 +1,24 @@
+package sn.noreyni.springapi.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleImportDto {
+    private String title;
+    private String content;
+    private String imageUrl;
+    private ArticleStatus status;
+    private List<String> tags;
+    private String authorEmail;
+    private LocalDateTime createdAt;
+}
@@ -16,12 +16,14 @@ import java.time.LocalDateTime;
 public class ArticleSummaryDto {
     private Long id;
     private String title;
-    private String content;
+    private String excerpt;
     private String imageUrl;
     private ArticleStatus status;
     private Long authorId;
+    private AuthorDto author;
     private Integer views;
     private Integer likes;
+    private Integer commentCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,16 @@
+package sn.noreyni.springapi.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorDto {
+    private Long id;
+    private String username;
+    private String displayName;
+}
@@ -15,6 +15,7 @@ public class CommentDto {
     private Long id;
     private String content;
     private Long authorId;
+    private AuthorDto author;
     private Long articleId;
     private LocalDateTime createdAt;
 }
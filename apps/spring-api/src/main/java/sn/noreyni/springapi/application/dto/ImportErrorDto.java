@@ -0,0 +1,15 @@
+package sn.noreyni.springapi.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+    private long line;
+    private String message;
+}
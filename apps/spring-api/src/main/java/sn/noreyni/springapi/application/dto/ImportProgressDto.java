@@ -0,0 +1,20 @@
+package sn.noreyni.springapi.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Running totals after a batch, with the errors of that batch only
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressDto {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<ImportErrorDto> errors;
+}
@@ -1,30 +1,55 @@
 package sn.noreyni.springapi.application.facade;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import sn.noreyni.springapi.application.dto.ArticleDto;
 import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.dto.ImportProgressDto;
 import sn.noreyni.springapi.application.usecase.article.command.CreateArticleCommand;
 import sn.noreyni.springapi.application.usecase.article.command.DeleteArticleCommand;
+import sn.noreyni.springapi.application.usecase.article.command.ImportArticlesCommand;
+import sn.noreyni.springapi.application.usecase.article.query.ExportArticlesQuery;
 import sn.noreyni.springapi.application.usecase.article.query.GetArticleByIdQuery;
 import sn.noreyni.springapi.application.usecase.article.query.GetArticleListQuery;
+import sn.noreyni.springapi.application.usecase.article.query.GetArticleScrollQuery;
 import sn.noreyni.springapi.application.usecase.article.query.GetArticlesByAuthorQuery;
+import sn.noreyni.springapi.application.usecase.article.query.GetArticlesByAuthorScrollQuery;
+import sn.noreyni.springapi.application.usecase.article.query.GetArticlesByTagQuery;
+import sn.noreyni.springapi.application.usecase.article.query.GetTrendingArticlesQuery;
+import sn.noreyni.springapi.application.usecase.article.query.SearchArticlesQuery;
 import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class ArticleFacade {
     private final CreateArticleCommand createArticleCommand;
     private final DeleteArticleCommand deleteArticleCommand;
+    private final ImportArticlesCommand importArticlesCommand;
     private final GetArticleListQuery getArticleListQuery;
     private final GetArticleByIdQuery getArticleByIdQuery;
     private final GetArticlesByAuthorQuery getArticlesByAuthorQuery;
+    private final GetArticleScrollQuery getArticleScrollQuery;
+    private final GetArticlesByAuthorScrollQuery getArticlesByAuthorScrollQuery;
+    private final SearchArticlesQuery searchArticlesQuery;
+    private final GetArticlesByTagQuery getArticlesByTagQuery;
+    private final ExportArticlesQuery exportArticlesQuery;
+    private final GetTrendingArticlesQuery getTrendingArticlesQuery;
+
+    public Mono<ArticleDto> createArticle(Article article, Long authorId) {
+        return createArticleCommand.execute(article, authorId);
+    }
 
-    public Mono<ArticleDto> createArticle(Article article, String authorEmail) {
-        return createArticleCommand.execute(article, authorEmail);
+    public Flux<ImportProgressDto> importArticles(Flux<DataBuffer> body, Long importerId) {
+        return importArticlesCommand.execute(body, importerId);
     }
 
     public Mono<Page<ArticleSummaryDto>> getAllArticles(Pageable pageable) {
@@ -35,6 +60,30 @@ public class ArticleFacade {
         return getArticlesByAuthorQuery.execute(authorId, pageable);
     }
 
+    public Mono<CursorPageDto<ArticleSummaryDto>> scrollArticles(String cursor, int size) {
+        return getArticleScrollQuery.execute(cursor, size);
+    }
+
+    public Mono<CursorPageDto<ArticleSummaryDto>> scrollArticlesByAuthor(Long authorId, String cursor, int size) {
+        return getArticlesByAuthorScrollQuery.execute(authorId, cursor, size);
+    }
+
+    public Mono<CursorPageDto<ArticleSummaryDto>> getArticlesByTag(String tag, String cursor, int size) {
+        return getArticlesByTagQuery.execute(tag, cursor, size);
+    }
+
+    public Mono<CursorPageDto<ArticleSummaryDto>> searchArticles(ArticleSearchCriteria criteria, String cursor, int size) {
+        return searchArticlesQuery.execute(criteria, cursor, size);
+    }
+
+    public Mono<List<ArticleSummaryDto>> getTrendingArticles(int limit) {
+        return getTrendingArticlesQuery.execute(limit);
+    }
+
+    public Flux<ArticleDto> exportArticles() {
+        return exportArticlesQuery.execute();
+    }
+
     public Mono<ArticleDto> getArticleById(Long id) {
         return getArticleByIdQuery.execute(id);
     }
@@ -5,10 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
 import sn.noreyni.springapi.application.usecase.comment.command.AddCommentCommand;
 import sn.noreyni.springapi.application.usecase.comment.command.DeleteCommentCommand;
 import sn.noreyni.springapi.application.usecase.comment.query.GetCommentsByArticleQuery;
+import sn.noreyni.springapi.application.usecase.comment.query.GetCommentsByArticleScrollQuery;
 import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -17,16 +20,21 @@ public class CommentFacade {
     private final AddCommentCommand addCommentCommand;
     private final DeleteCommentCommand deleteCommentCommand;
     private final GetCommentsByArticleQuery getCommentsByArticleQuery;
+    private final GetCommentsByArticleScrollQuery getCommentsByArticleScrollQuery;
 
-    public Mono<CommentDto> addComment(Comment comment, String authorEmail) {
-        return addCommentCommand.execute(comment, authorEmail);
+    public Mono<CommentDto> addComment(Comment comment, AuthenticatedUser author) {
+        return addCommentCommand.execute(comment, author);
     }
 
     public Mono<Page<CommentDto>> getCommentsByArticle(Long articleId, Pageable pageable) {
         return getCommentsByArticleQuery.execute(articleId, pageable);
     }
 
-    public Mono<Void> deleteComment(Long id, String userEmail) {
-        return deleteCommentCommand.execute(id, userEmail);
+    public Mono<CursorPageDto<CommentDto>> scrollCommentsByArticle(Long articleId, String cursor, int size) {
+        return getCommentsByArticleScrollQuery.execute(articleId, cursor, size);
+    }
+
+    public Mono<Void> deleteComment(Long id, Long userId) {
+        return deleteCommentCommand.execute(id, userId);
     }
 }
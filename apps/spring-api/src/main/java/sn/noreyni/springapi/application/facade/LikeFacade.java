@@ -0,0 +1,29 @@
+package sn.noreyni.springapi.application.facade;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sn.noreyni.springapi.application.dto.LikeDto;
+import sn.noreyni.springapi.application.usecase.like.command.LikeArticleCommand;
+import sn.noreyni.springapi.application.usecase.like.command.UnlikeArticleCommand;
+import sn.noreyni.springapi.application.usecase.like.query.GetLikeStatusQuery;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class LikeFacade {
+    private final LikeArticleCommand likeArticleCommand;
+    private final UnlikeArticleCommand unlikeArticleCommand;
+    private final GetLikeStatusQuery getLikeStatusQuery;
+
+    public Mono<LikeDto> like(Long articleId, Long userId) {
+        return likeArticleCommand.execute(articleId, userId);
+    }
+
+    public Mono<LikeDto> unlike(Long articleId, Long userId) {
+        return unlikeArticleCommand.execute(articleId, userId);
+    }
+
+    public Mono<LikeDto> getLikeStatus(Long articleId, Long userId) {
+        return getLikeStatusQuery.execute(articleId, userId);
+    }
+}
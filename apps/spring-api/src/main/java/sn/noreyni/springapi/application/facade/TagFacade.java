@@ -0,0 +1,17 @@
+package sn.noreyni.springapi.application.facade;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sn.noreyni.springapi.application.dto.TagCountDto;
+import sn.noreyni.springapi.application.usecase.tag.query.GetTagListQuery;
+import reactor.core.publisher.Flux;
+
+@Component
+@RequiredArgsConstructor
+public class TagFacade {
+    private final GetTagListQuery getTagListQuery;
+
+    public Flux<TagCountDto> getTags(int limit) {
+        return getTagListQuery.execute(limit);
+    }
+}
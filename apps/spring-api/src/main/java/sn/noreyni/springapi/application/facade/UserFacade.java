@@ -4,12 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
 import sn.noreyni.springapi.application.dto.UserDto;
 import sn.noreyni.springapi.application.usecase.user.command.AdminCreateUserCommand;
 import sn.noreyni.springapi.application.usecase.user.command.DeleteUserCommand;
 import sn.noreyni.springapi.application.usecase.user.command.UpdateUserCommand;
 import sn.noreyni.springapi.application.usecase.user.query.GetUserByIdQuery;
 import sn.noreyni.springapi.application.usecase.user.query.GetUserListQuery;
+import sn.noreyni.springapi.application.usecase.user.query.GetUserScrollQuery;
 import sn.noreyni.springapi.domain.model.User;
 import reactor.core.publisher.Mono;
 
@@ -18,6 +20,7 @@ import reactor.core.publisher.Mono;
 public class UserFacade {
     private final AdminCreateUserCommand adminCreateUserCommand;
     private final GetUserListQuery getUserListQuery;
+    private final GetUserScrollQuery getUserScrollQuery;
     private final GetUserByIdQuery getUserByIdQuery;
     private final UpdateUserCommand updateUserCommand;
     private final DeleteUserCommand deleteUserCommand;
@@ -30,6 +33,10 @@ public class UserFacade {
         return getUserListQuery.execute(pageable);
     }
 
+    public Mono<CursorPageDto<UserDto>> scrollUsers(String cursor, int size) {
+        return getUserScrollQuery.execute(cursor, size);
+    }
+
     public Mono<UserDto> getUserById(Long id) {
         return getUserByIdQuery.execute(id);
     }
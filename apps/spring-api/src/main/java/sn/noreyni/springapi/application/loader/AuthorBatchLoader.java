@@ -0,0 +1,51 @@
+package sn.noreyni.springapi.application.loader;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sn.noreyni.springapi.application.dto.AuthorDto;
+import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.domain.model.User;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Resolves the authors of everything a request is about to return with a single query
+@Component
+@RequiredArgsConstructor
+public class AuthorBatchLoader {
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    public Mono<Map<Long, User>> loadUsers(Collection<Long> authorIds) {
+        Set<Long> distinctIds = authorIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (distinctIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return userRepository.findAllByIds(distinctIds)
+                .collectMap(User::getId);
+    }
+
+    public <T> Mono<Void> attach(Collection<T> items, Function<T, Long> authorIdOf, BiConsumer<T, AuthorDto> setAuthor) {
+        return loadUsers(items.stream().map(authorIdOf).toList())
+                .doOnNext(users -> attach(items, users, authorIdOf, setAuthor))
+                .then();
+    }
+
+    public <T> void attach(Collection<T> items, Map<Long, User> users, Function<T, Long> authorIdOf, BiConsumer<T, AuthorDto> setAuthor) {
+        for (T item : items) {
+            User user = users.get(authorIdOf.apply(item));
+            if (user != null) {
+                setAuthor.accept(item, userMapper.toAuthorDto(user));
+            }
+        }
+    }
+}
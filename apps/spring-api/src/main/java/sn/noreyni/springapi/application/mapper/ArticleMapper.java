@@ -1,13 +1,26 @@
 package sn.noreyni.springapi.application.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import sn.noreyni.springapi.application.dto.ArticleDto;
 import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
 import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
 
 @Mapper(componentModel = "spring", uses = {TagMapper.class})
 public interface ArticleMapper {
+    // Author and comments are attached by the queries that load them
+    @Mapping(target = "author", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "commentsCursor", ignore = true)
     ArticleDto toDto(Article article);
-    ArticleSummaryDto toSummaryDto(Article article);
+
+    @Mapping(target = "author", ignore = true)
+    ArticleSummaryDto toSummaryDto(ArticleSummary article);
+
+    // The excerpt is derived from the content when the article is saved, the comment count by the database
+    @Mapping(target = "excerpt", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "contentVersion", ignore = true)
     Article toDomain(ArticleDto articleDto);
 }
@@ -1,11 +1,13 @@
 package sn.noreyni.springapi.application.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import sn.noreyni.springapi.application.dto.CommentDto;
 import sn.noreyni.springapi.domain.model.Comment;
 
 @Mapper(componentModel = "spring")
 public interface CommentMapper {
+    @Mapping(target = "author", ignore = true)
     CommentDto toDto(Comment comment);
     Comment toDomain(CommentDto commentDto);
 }
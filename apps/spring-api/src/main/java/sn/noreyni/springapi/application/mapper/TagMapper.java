@@ -1,11 +1,14 @@
 package sn.noreyni.springapi.application.mapper;
 
 import org.mapstruct.Mapper;
+import sn.noreyni.springapi.application.dto.TagCountDto;
 import sn.noreyni.springapi.application.dto.TagDto;
 import sn.noreyni.springapi.domain.model.Tag;
+import sn.noreyni.springapi.domain.model.TagCount;
 
 @Mapper(componentModel = "spring")
 public interface TagMapper {
     TagDto toDto(Tag tag);
+    TagCountDto toCountDto(TagCount tag);
     Tag toDomain(TagDto tagDto);
 }
@@ -2,6 +2,7 @@ package sn.noreyni.springapi.application.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import sn.noreyni.springapi.application.dto.AuthorDto;
 import sn.noreyni.springapi.application.dto.UserDto;
 import sn.noreyni.springapi.domain.model.User;
 
@@ -9,6 +10,9 @@ import sn.noreyni.springapi.domain.model.User;
 public interface UserMapper {
     UserDto toDto(User user);
 
+    @Mapping(target = "displayName", expression = "java(user.displayName())")
+    AuthorDto toAuthorDto(User user);
+
     @Mapping(target = "password", ignore = true)
     User toDomain(UserDto userDto);
 }
@@ -0,0 +1,56 @@
+package sn.noreyni.springapi.application.pagination;
+
+import org.springframework.http.HttpStatus;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorPages {
+
+    private CursorPages() {
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return Cursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new BlogException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    // Repositories are queried with size + 1 so that the extra row tells whether another page exists
+    // in the direction of travel. Rows always come back newest first.
+    public static <D, T> CursorPageDto<T> of(List<D> rows, Cursor requested, int size,
+                                             Function<D, Cursor> positionOf, Function<D, T> mapper) {
+        boolean backward = requested != null && requested.isBackward();
+        boolean more = rows.size() > size;
+        List<D> page = !more ? rows : backward ? rows.subList(rows.size() - size, rows.size()) : rows.subList(0, size);
+
+        boolean hasNext = backward || more;
+        boolean hasPrev = backward ? more : requested != null;
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!page.isEmpty()) {
+            if (hasNext) {
+                nextCursor = positionOf.apply(page.get(page.size() - 1)).next().encode();
+            }
+            if (hasPrev) {
+                prevCursor = positionOf.apply(page.get(0)).previous().encode();
+            }
+        }
+
+        return CursorPageDto.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .size(size)
+                .build();
+    }
+}
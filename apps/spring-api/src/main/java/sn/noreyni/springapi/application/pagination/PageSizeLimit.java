@@ -0,0 +1,27 @@
+package sn.noreyni.springapi.application.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// Upper bound on what a single list request may ask for, whatever size the client sends
+@Component
+public class PageSizeLimit {
+    private final int maxPageSize;
+
+    public PageSizeLimit(@Value("${app.pagination.max-page-size:100}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int clamp(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    public Pageable clamp(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageRequest.of(0, maxPageSize);
+        }
+        return PageRequest.of(pageable.getPageNumber(), clamp(pageable.getPageSize()), pageable.getSort());
+    }
+}
@@ -6,7 +6,6 @@ import sn.noreyni.springapi.application.dto.ArticleDto;
 import sn.noreyni.springapi.application.mapper.ArticleMapper;
 import sn.noreyni.springapi.domain.model.Article;
 import sn.noreyni.springapi.domain.repository.ArticleRepository;
-import sn.noreyni.springapi.domain.repository.UserRepository;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -15,17 +14,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class CreateArticleCommand {
     private final ArticleRepository articleRepository;
-    private final UserRepository userRepository;
     private final ArticleMapper articleMapper;
 
-    public Mono<ArticleDto> execute(Article article, String authorEmail) {
-        return userRepository.findByEmail(authorEmail)
-                .flatMap(user -> {
-                    article.setAuthorId(user.getId());
-                    article.setCreatedAt(LocalDateTime.now());
-                    article.setUpdatedAt(LocalDateTime.now());
-                    return articleRepository.save(article);
-                })
+    public Mono<ArticleDto> execute(Article article, Long authorId) {
+        article.setAuthorId(authorId);
+        article.setCreatedAt(LocalDateTime.now());
+        article.setUpdatedAt(LocalDateTime.now());
+        return articleRepository.save(article)
                 .map(articleMapper::toDto);
     }
 }
@@ -0,0 +1,229 @@
+package sn.noreyni.springapi.application.usecase.article.command;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.ArticleImportDto;
+import sn.noreyni.springapi.application.dto.ImportErrorDto;
+import sn.noreyni.springapi.application.dto.ImportProgressDto;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.Tag;
+import sn.noreyni.springapi.domain.model.User;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.domain.repository.TagRepository;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Imports newline-delimited JSON articles in batches: authors and tag names are resolved once per
+// batch and the articles go in with one multi-row insert. Invalid lines are reported and skipped,
+// they never fail the rest of the import.
+@Service
+@Slf4j
+public class ImportArticlesCommand {
+    // Column sizes, a value over them would fail the whole batch insert
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_IMAGE_URL_LENGTH = 255;
+    private static final int MAX_TAG_LENGTH = 50;
+    // Range of a PostgreSQL timestamp that LocalDateTime can also express
+    private static final int MAX_YEAR = 294276;
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxLineBytes;
+
+    public ImportArticlesCommand(ArticleRepository articleRepository,
+                                 UserRepository userRepository,
+                                 TagRepository tagRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.import.batch-size:1000}") int batchSize,
+                                 @Value("${app.import.max-line-bytes:1048576}") int maxLineBytes) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    public Flux<ImportProgressDto> execute(Flux<DataBuffer> body, Long importerId) {
+        return Flux.defer(() -> {
+                    NdjsonLineSplitter splitter = new NdjsonLineSplitter(maxLineBytes);
+                    return body.concatMapIterable(splitter::split)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(splitter.finish())));
+                })
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .map(line -> line.getT2().isTooLong()
+                        ? new ImportLine(line.getT1() + 1, null, "Line is longer than " + maxLineBytes + " bytes")
+                        : parse(line.getT1() + 1, line.getT2().text))
+                .buffer(batchSize)
+                // One batch stored at a time, with at most one more read ahead of it
+                .concatMap(batch -> importBatch(batch, importerId), 1)
+                .scan(ImportProgressDto.builder().errors(List.of()).build(), ImportArticlesCommand::accumulate)
+                .skip(1);
+    }
+
+    private Mono<ImportProgressDto> importBatch(List<ImportLine> batch, Long importerId) {
+        List<ImportErrorDto> errors = new ArrayList<>();
+        List<ImportLine> valid = new ArrayList<>();
+        for (ImportLine line : batch) {
+            String error = line.error != null ? line.error : validate(line.article);
+            if (error != null) {
+                errors.add(new ImportErrorDto(line.number, error));
+            } else {
+                valid.add(line);
+            }
+        }
+
+        Set<String> emails = valid.stream()
+                .map(line -> line.article.getAuthorEmail())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> tagNames = valid.stream()
+                .flatMap(line -> tagNamesOf(line.article).stream())
+                .collect(Collectors.toSet());
+
+        return userRepository.findAllByEmails(emails)
+                .collectMap(User::getEmail, Function.identity())
+                .zipWith(tagRepository.resolveIds(tagNames))
+                .flatMap(resolved -> {
+                    List<Article> articles = new ArrayList<>(valid.size());
+                    List<ImportLine> imported = new ArrayList<>(valid.size());
+                    for (ImportLine line : valid) {
+                        String email = line.article.getAuthorEmail();
+                        User author = email != null ? resolved.getT1().get(email) : null;
+                        if (email != null && author == null) {
+                            errors.add(new ImportErrorDto(line.number, "Unknown author: " + email));
+                            continue;
+                        }
+                        articles.add(toArticle(line.article, author != null ? author.getId() : importerId, resolved.getT2()));
+                        imported.add(line);
+                    }
+                    return articleRepository.insertAll(articles)
+                            .map(ids -> progress(batch.size(), ids.size(), errors))
+                            .onErrorResume(e -> {
+                                log.warn("Failed to import a batch of {} articles", articles.size(), e);
+                                imported.forEach(line -> errors.add(new ImportErrorDto(line.number, "Batch insert failed")));
+                                return Mono.just(progress(batch.size(), 0, errors));
+                            });
+                });
+    }
+
+    private ImportLine parse(long number, String json) {
+        try {
+            ArticleImportDto article = objectMapper.readValue(json, ArticleImportDto.class);
+            return article != null ? new ImportLine(number, article, null) : new ImportLine(number, null, "Expected a JSON object");
+        } catch (JsonProcessingException e) {
+            return new ImportLine(number, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String validate(ArticleImportDto article) {
+        if (article.getTitle() == null || article.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        if (article.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (article.getContent() == null || article.getContent().isBlank()) {
+            return "Content is required";
+        }
+        if (article.getImageUrl() != null && article.getImageUrl().length() > MAX_IMAGE_URL_LENGTH) {
+            return "Image URL is longer than " + MAX_IMAGE_URL_LENGTH + " characters";
+        }
+        for (String tag : tagNamesOf(article)) {
+            if (tag.length() > MAX_TAG_LENGTH) {
+                return "Tag is longer than " + MAX_TAG_LENGTH + " characters: " + tag;
+            }
+        }
+        // PostgreSQL text cannot hold a NUL character
+        if (containsNul(article.getTitle()) || containsNul(article.getContent()) || containsNul(article.getImageUrl())
+                || tagNamesOf(article).stream().anyMatch(ImportArticlesCommand::containsNul)) {
+            return "Text must not contain NUL characters";
+        }
+        if (article.getCreatedAt() != null
+                && (article.getCreatedAt().getYear() < 1 || article.getCreatedAt().getYear() > MAX_YEAR)) {
+            return "Creation date is out of range";
+        }
+        return null;
+    }
+
+    private static boolean containsNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private static Set<String> tagNamesOf(ArticleImportDto article) {
+        if (article.getTags() == null) {
+            return Set.of();
+        }
+        return article.getTags().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Article toArticle(ArticleImportDto source, Long authorId, Map<String, Long> tagIds) {
+        LocalDateTime createdAt = source.getCreatedAt() != null ? source.getCreatedAt() : LocalDateTime.now();
+        return Article.builder()
+                .title(source.getTitle())
+                .content(source.getContent())
+                .imageUrl(source.getImageUrl())
+                .status(source.getStatus() != null ? source.getStatus() : ArticleStatus.DRAFT)
+                .authorId(authorId)
+                .tags(tagNamesOf(source).stream()
+                        .map(name -> Tag.builder().id(tagIds.get(name)).name(name).build())
+                        .toList())
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private static ImportProgressDto progress(int processed, int imported, List<ImportErrorDto> errors) {
+        return ImportProgressDto.builder()
+                .processed(processed)
+                .imported(imported)
+                .failed(processed - imported)
+                .errors(errors)
+                .build();
+    }
+
+    private static ImportProgressDto accumulate(ImportProgressDto total, ImportProgressDto batch) {
+        return ImportProgressDto.builder()
+                .processed(total.getProcessed() + batch.getProcessed())
+                .imported(total.getImported() + batch.getImported())
+                .failed(total.getFailed() + batch.getFailed())
+                .errors(batch.getErrors())
+                .build();
+    }
+
+    private static class ImportLine {
+        final long number;
+        final ArticleImportDto article;
+        final String error;
+
+        ImportLine(long number, ArticleImportDto article, String error) {
+            this.number = number;
+            this.article = article;
+            this.error = error;
+        }
+    }
+}
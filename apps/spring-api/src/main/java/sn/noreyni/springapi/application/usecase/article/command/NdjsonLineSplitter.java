@@ -0,0 +1,101 @@
+package sn.noreyni.springapi.application.usecase.article.command;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Splits a request body into lines with a bounded line length, copying whole segments between the
+// newlines found in each buffer. A line over the limit is reported as too long and skipped up to the
+// next newline instead of failing the whole body, which is what the default string decoder does once
+// a line outgrows its in-memory limit. One instance per body.
+final class NdjsonLineSplitter {
+    private final int maxLineBytes;
+    private final ByteArrayOutputStream current = new ByteArrayOutputStream();
+    private boolean tooLong;
+
+    NdjsonLineSplitter(int maxLineBytes) {
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    List<Line> split(DataBuffer buffer) {
+        List<Line> lines = new ArrayList<>();
+        try {
+            while (buffer.readableByteCount() > 0) {
+                int start = buffer.readPosition();
+                int newline = buffer.indexOf(b -> b == '\n', start);
+                if (newline < 0) {
+                    append(buffer, buffer.readableByteCount());
+                } else if (current.size() == 0 && !tooLong && newline - start <= maxLineBytes) {
+                    // Whole line within this buffer, decoded in place
+                    lines.add(line(buffer.toString(start, newline - start, StandardCharsets.UTF_8)));
+                    buffer.readPosition(newline + 1);
+                } else {
+                    append(buffer, newline - start);
+                    buffer.readPosition(newline + 1);
+                    lines.add(take());
+                }
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return lines;
+    }
+
+    private void append(DataBuffer buffer, int length) {
+        if (!tooLong && current.size() + length > maxLineBytes) {
+            tooLong = true;
+            current.reset();
+        }
+        if (tooLong) {
+            buffer.readPosition(buffer.readPosition() + length);
+            return;
+        }
+        byte[] segment = new byte[length];
+        buffer.read(segment);
+        current.write(segment, 0, length);
+    }
+
+    // The last line may not end with a newline
+    List<Line> finish() {
+        return tooLong || current.size() > 0 ? List.of(take()) : List.of();
+    }
+
+    private Line take() {
+        Line line;
+        if (tooLong) {
+            line = Line.TOO_LONG;
+        } else {
+            line = line(current.toString(StandardCharsets.UTF_8));
+        }
+        current.reset();
+        tooLong = false;
+        return line;
+    }
+
+    private static Line line(String text) {
+        return new Line(text.endsWith("\r") ? text.substring(0, text.length() - 1) : text);
+    }
+
+    static final class Line {
+        static final Line TOO_LONG = new Line(null);
+
+        // null when the line was over the limit
+        final String text;
+
+        Line(String text) {
+            this.text = text;
+        }
+
+        boolean isTooLong() {
+            return text == null;
+        }
+
+        boolean isBlank() {
+            return text != null && text.isBlank();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package sn.noreyni.springapi.application.usecase.article.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class ExportArticlesQuery {
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+
+    public Flux<ArticleDto> execute() {
+        return articleRepository.streamAll()
+                .map(articleMapper::toDto);
+    }
+}
@@ -1,54 +1,109 @@
 package sn.noreyni.springapi.application.usecase.article.query;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
 import sn.noreyni.springapi.application.mapper.ArticleMapper;
 import sn.noreyni.springapi.application.mapper.CommentMapper;
 import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.model.User;
 import sn.noreyni.springapi.domain.repository.ArticleRepository;
 import sn.noreyni.springapi.domain.repository.CommentRepository;
-import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+import sn.noreyni.springapi.infrastructure.counter.ArticleViewCounter;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
-@RequiredArgsConstructor
 public class GetArticleByIdQuery {
     private final ArticleRepository articleRepository;
-    private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final ArticleMapper articleMapper;
     private final UserMapper userMapper;
     private final CommentMapper commentMapper;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleCache articleCache;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final TrendingTracker trendingTracker;
+    private final int commentPreviewSize;
 
-    public Mono<ArticleDto> execute(Long id) {
-        return articleRepository.findById(id)
-                .flatMap(article -> {
-                    // Increment views
-                    article.setViews(article.getViews() != null ? article.getViews() + 1 : 1);
-                    return articleRepository.save(article);
-                })
-                .flatMap(article -> {
-                    ArticleDto dto = articleMapper.toDto(article);
-                    
-                    Mono<ArticleDto> withAuthor = userRepository.findById(article.getAuthorId())
-                            .map(userMapper::toDto)
-                            .map(authorDto -> {
-                                dto.setAuthor(authorDto);
-                                return dto;
-                            })
-                            .defaultIfEmpty(dto);
+    public GetArticleByIdQuery(ArticleRepository articleRepository,
+                               CommentRepository commentRepository,
+                               ArticleMapper articleMapper,
+                               UserMapper userMapper,
+                               CommentMapper commentMapper,
+                               ArticleViewCounter articleViewCounter,
+                               ArticleCache articleCache,
+                               AuthorBatchLoader authorBatchLoader,
+                               TrendingTracker trendingTracker,
+                               @Value("${app.comments.preview-size:10}") int commentPreviewSize) {
+        this.articleRepository = articleRepository;
+        this.commentRepository = commentRepository;
+        this.articleMapper = articleMapper;
+        this.userMapper = userMapper;
+        this.commentMapper = commentMapper;
+        this.articleViewCounter = articleViewCounter;
+        this.articleCache = articleCache;
+        this.authorBatchLoader = authorBatchLoader;
+        this.trendingTracker = trendingTracker;
+        this.commentPreviewSize = commentPreviewSize;
+    }
 
-                    return withAuthor.flatMap(articleDto -> 
-                        commentRepository.findByArticleId(article.getId(), Pageable.unpaged())
-                                .map(commentMapper::toDto)
-                                .collectList()
-                                .map(comments -> {
-                                    articleDto.setComments(comments);
-                                    return articleDto;
-                                })
-                    );
+    public Mono<ArticleDto> execute(Long id) {
+        // Details load on the primary: the loader runs outside the caller's context, and a detail read
+        // from a lagging replica would be cached for everyone until the next eviction
+        return articleCache.detail(id, this::assemble)
+                .map(dto -> {
+                    // Views are counted in memory and flushed in batches, the read path never writes
+                    articleViewCounter.increment(dto.getId());
+                    if (dto.getStatus() == ArticleStatus.PUBLISHED) {
+                        trendingTracker.record(dto.getId(), TrendingSignal.VIEW);
+                    }
+                    int persistedViews = dto.getViews() != null ? dto.getViews() : 0;
+                    dto.setViews(persistedViews + (int) articleViewCounter.pending(dto.getId()));
+                    return dto;
                 });
     }
+
+    private Mono<ArticleDto> assemble(Long id) {
+        return articleRepository.findById(id)
+                // One extra row tells whether there are more comments to scroll to; the total comes
+                // from the article's comment_count, so the preview needs no count over the comments
+                .flatMap(article -> commentRepository.findByArticleIdAndCursor(article.getId(), null, commentPreviewSize + 1)
+                        .collectList()
+                        .flatMap(preview -> {
+                            List<Comment> page = preview.size() > commentPreviewSize
+                                    ? preview.subList(0, commentPreviewSize)
+                                    : preview;
+                            List<CommentDto> comments = page.stream().map(commentMapper::toDto).toList();
+                            // The article author and every comment author come back in one query
+                            List<Long> authorIds = new ArrayList<>();
+                            authorIds.add(article.getAuthorId());
+                            comments.forEach(comment -> authorIds.add(comment.getAuthorId()));
+                            return authorBatchLoader.loadUsers(authorIds)
+                                    .map(users -> {
+                                        ArticleDto dto = articleMapper.toDto(article);
+                                        User author = users.get(article.getAuthorId());
+                                        if (author != null) {
+                                            dto.setAuthor(userMapper.toDto(author));
+                                        }
+                                        authorBatchLoader.attach(comments, users, CommentDto::getAuthorId, CommentDto::setAuthor);
+                                        dto.setComments(comments);
+                                        if (preview.size() > commentPreviewSize) {
+                                            Comment last = page.get(page.size() - 1);
+                                            dto.setCommentsCursor(Cursor.of(last.getCreatedAt(), last.getId()).encode());
+                                        }
+                                        return dto;
+                                    });
+                        }));
+    }
 }
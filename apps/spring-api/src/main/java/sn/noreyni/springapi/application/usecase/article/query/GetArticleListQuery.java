@@ -6,10 +6,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
 import sn.noreyni.springapi.application.mapper.ArticleMapper;
 import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
 import sn.noreyni.springapi.domain.repository.ArticleRepository;
 import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.TotalCountCache;
+import sn.noreyni.springapi.infrastructure.persistence.routing.ReadRouting;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -19,13 +24,23 @@ public class GetArticleListQuery {
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final ArticleMapper articleMapper;
+    private final AuthorBatchLoader authorBatchLoader;
     private final UserMapper userMapper;
+    private final TotalCountCache totalCountCache;
+    private final ReadRouting readRouting;
+    private final PageSizeLimit pageSizeLimit;
 
-    public Mono<Page<ArticleSummaryDto>> execute(Pageable pageable) {
-        return articleRepository.findAll(pageable)
-                .map(articleMapper::toSummaryDto)
-                .collectList()
-                .zipWith(articleRepository.count())
-                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    public Mono<Page<ArticleSummaryDto>> execute(Pageable requested) {
+        Pageable pageable = pageSizeLimit.clamp(requested);
+        Mono<Page<ArticleSummary>> page = totalCountCache.isEnabled()
+                ? articleRepository.findAll(pageable)
+                        .collectList()
+                        .zipWith(totalCountCache.articleCount())
+                        .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))
+                : articleRepository.findPage(pageable);
+        return readRouting.readOnly(page.map(articles -> articles.map(articleMapper::toSummaryDto))
+                .flatMap(summaries -> authorBatchLoader.attach(summaries.getContent(),
+                                ArticleSummaryDto::getAuthorId, ArticleSummaryDto::setAuthor)
+                        .thenReturn(summaries)));
     }
 }
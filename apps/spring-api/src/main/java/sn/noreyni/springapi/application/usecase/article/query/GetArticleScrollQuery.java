@@ -0,0 +1,37 @@
+package sn.noreyni.springapi.application.usecase.article.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.application.pagination.CursorPages;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class GetArticleScrollQuery {
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final PageSizeLimit pageSizeLimit;
+
+    public Mono<CursorPageDto<ArticleSummaryDto>> execute(String cursor, int requestedSize) {
+        return Mono.defer(() -> {
+            int size = pageSizeLimit.clamp(requestedSize);
+            Cursor position = CursorPages.decode(cursor);
+            return articleRepository.findAllByCursor(position, size + 1)
+                    .collectList()
+                    .map(articles -> CursorPages.of(articles, position, size,
+                            article -> Cursor.of(article.getCreatedAt(), article.getId()),
+                            articleMapper::toSummaryDto))
+                    .flatMap(page -> authorBatchLoader.attach(page.getContent(),
+                                    ArticleSummaryDto::getAuthorId, ArticleSummaryDto::setAuthor)
+                            .thenReturn(page));
+        });
+    }
+}
@@ -2,12 +2,13 @@ package sn.noreyni.springapi.application.usecase.article.query;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
 import sn.noreyni.springapi.application.mapper.ArticleMapper;
 import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
 import sn.noreyni.springapi.domain.repository.ArticleRepository;
 import sn.noreyni.springapi.domain.repository.UserRepository;
 import reactor.core.publisher.Mono;
@@ -18,13 +19,16 @@ public class GetArticlesByAuthorQuery {
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final ArticleMapper articleMapper;
+    private final AuthorBatchLoader authorBatchLoader;
     private final UserMapper userMapper;
+    private final PageSizeLimit pageSizeLimit;
 
-    public Mono<Page<ArticleSummaryDto>> execute(Long authorId, Pageable pageable) {
-        return articleRepository.findAllByAuthorId(authorId, pageable)
-                .map(articleMapper::toSummaryDto)
-                .collectList()
-                .zipWith(articleRepository.countByAuthorId(authorId))
-                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    public Mono<Page<ArticleSummaryDto>> execute(Long authorId, Pageable requested) {
+        Pageable pageable = pageSizeLimit.clamp(requested);
+        return articleRepository.findPageByAuthorId(authorId, pageable)
+                .map(articles -> articles.map(articleMapper::toSummaryDto))
+                .flatMap(summaries -> authorBatchLoader.attach(summaries.getContent(),
+                                ArticleSummaryDto::getAuthorId, ArticleSummaryDto::setAuthor)
+                        .thenReturn(summaries));
     }
 }
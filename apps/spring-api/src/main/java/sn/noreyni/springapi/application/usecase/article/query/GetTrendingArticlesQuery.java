@@ -0,0 +1,51 @@
+package sn.noreyni.springapi.application.usecase.article.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class GetTrendingArticlesQuery {
+    private final TrendingTracker trendingTracker;
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+    private final AuthorBatchLoader authorBatchLoader;
+
+    public Mono<List<ArticleSummaryDto>> execute(int limit) {
+        return Mono.defer(() -> {
+            List<Long> ranked = trendingTracker.top().stream()
+                    .map(TrendingScore::getArticleId)
+                    .toList();
+            // The ranking is fed by every article read, unpublished ones are dropped here
+            return articleRepository.findSummariesByIds(ranked)
+                    .filter(article -> article.getStatus() == ArticleStatus.PUBLISHED)
+                    .collectMap(ArticleSummary::getId)
+                    .map(byId -> inRankOrder(ranked, byId, limit))
+                    .flatMap(summaries -> authorBatchLoader.attach(summaries,
+                                    ArticleSummaryDto::getAuthorId, ArticleSummaryDto::setAuthor)
+                            .thenReturn(summaries));
+        });
+    }
+
+    private List<ArticleSummaryDto> inRankOrder(List<Long> ranked, Map<Long, ArticleSummary> byId, int limit) {
+        return ranked.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(articleMapper::toSummaryDto)
+                .toList();
+    }
+}
@@ -0,0 +1,69 @@
+package sn.noreyni.springapi.application.usecase.article.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
+import sn.noreyni.springapi.domain.model.ArticleSearchHit;
+import sn.noreyni.springapi.domain.model.SearchCursor;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchArticlesQuery {
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final PageSizeLimit pageSizeLimit;
+
+    public Mono<CursorPageDto<ArticleSummaryDto>> execute(ArticleSearchCriteria criteria, String cursor, int requestedSize) {
+        return Mono.defer(() -> {
+            int size = pageSizeLimit.clamp(requestedSize);
+            if (criteria.getQuery() == null || criteria.getQuery().isBlank()) {
+                return Mono.error(new BlogException(HttpStatus.BAD_REQUEST, "Search query is required"));
+            }
+            SearchCursor after = decode(cursor);
+            // One extra row tells whether there is a next page; ranked results only scroll forward
+            return articleRepository.search(criteria, after, size + 1)
+                    .collectList()
+                    .map(hits -> toPage(hits, size))
+                    .flatMap(page -> authorBatchLoader.attach(page.getContent(),
+                                    ArticleSummaryDto::getAuthorId, ArticleSummaryDto::setAuthor)
+                            .thenReturn(page));
+        });
+    }
+
+    private CursorPageDto<ArticleSummaryDto> toPage(List<ArticleSearchHit> hits, int size) {
+        List<ArticleSearchHit> page = hits.size() > size ? hits.subList(0, size) : hits;
+        String nextCursor = null;
+        if (hits.size() > size) {
+            ArticleSearchHit last = page.get(page.size() - 1);
+            nextCursor = SearchCursor.of(last.getRank(), last.getArticle().getId()).encode();
+        }
+        return CursorPageDto.<ArticleSummaryDto>builder()
+                .content(page.stream().map(hit -> articleMapper.toSummaryDto(hit.getArticle())).toList())
+                .nextCursor(nextCursor)
+                .size(size)
+                .build();
+    }
+
+    private static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return SearchCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BlogException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package sn.noreyni.springapi.application.usecase.comment.command;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.AuthorDto;
 import sn.noreyni.springapi.application.dto.CommentDto;
 import sn.noreyni.springapi.application.mapper.CommentMapper;
 import sn.noreyni.springapi.domain.model.Comment;
 import sn.noreyni.springapi.domain.repository.CommentRepository;
-import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -15,16 +22,27 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AddCommentCommand {
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final CommentMapper commentMapper;
+    private final ArticleCache articleCache;
+    private final TrendingTracker trendingTracker;
 
-    public Mono<CommentDto> execute(Comment comment, String authorEmail) {
-        return userRepository.findByEmail(authorEmail)
-                .flatMap(user -> {
-                    comment.setAuthorId(user.getId());
-                    comment.setCreatedAt(LocalDateTime.now());
-                    return commentRepository.save(comment);
-                })
-                .map(commentMapper::toDto);
+    // The author comes from the verified token; a missing article surfaces as the foreign key failure
+    public Mono<CommentDto> execute(Comment comment, AuthenticatedUser author) {
+        comment.setAuthorId(author.getId());
+        comment.setCreatedAt(LocalDateTime.now());
+        return commentRepository.save(comment)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new BlogException(HttpStatus.NOT_FOUND, "Article not found"))
+                .flatMap(saved -> articleCache.evict(saved.getArticleId()).thenReturn(saved))
+                .doOnNext(saved -> trendingTracker.record(saved.getArticleId(), TrendingSignal.COMMENT))
+                .map(saved -> {
+                    CommentDto dto = commentMapper.toDto(saved);
+                    dto.setAuthor(AuthorDto.builder()
+                            .id(author.getId())
+                            .username(author.getUsername())
+                            .displayName(author.getDisplayName())
+                            .build());
+                    return dto;
+                });
     }
 }
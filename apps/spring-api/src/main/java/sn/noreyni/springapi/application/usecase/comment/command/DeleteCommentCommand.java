@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.domain.repository.CommentRepository;
-import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
 import sn.noreyni.springapi.infrastructure.exception.BlogException;
 import reactor.core.publisher.Mono;
 
@@ -12,18 +12,14 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class DeleteCommentCommand {
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final ArticleCache articleCache;
 
-    public Mono<Void> execute(Long id, String userEmail) {
-        return userRepository.findByEmail(userEmail)
-                .switchIfEmpty(Mono.error(new BlogException(HttpStatus.UNAUTHORIZED, "User not found")))
-                .flatMap(user -> commentRepository.findById(id)
-                        .switchIfEmpty(Mono.error(new BlogException(HttpStatus.NOT_FOUND, "Comment not found")))
-                        .flatMap(comment -> {
-                            if (!comment.getAuthorId().equals(user.getId())) {
-                                return Mono.error(new BlogException(HttpStatus.FORBIDDEN, "You can only delete your own comments"));
-                            }
-                            return commentRepository.deleteById(id);
-                        }));
+    public Mono<Void> execute(Long id, Long userId) {
+        return commentRepository.deleteByIdAndAuthorId(id, userId)
+                // Nothing deleted: only then look at the comment to tell the two failures apart
+                .switchIfEmpty(Mono.defer(() -> commentRepository.findById(id)
+                        .flatMap(comment -> Mono.<Long>error(new BlogException(HttpStatus.FORBIDDEN, "You can only delete your own comments")))
+                        .switchIfEmpty(Mono.error(new BlogException(HttpStatus.NOT_FOUND, "Comment not found")))))
+                .flatMap(articleCache::evict);
     }
 }
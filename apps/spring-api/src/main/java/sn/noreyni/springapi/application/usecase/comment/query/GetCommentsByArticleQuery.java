@@ -2,12 +2,14 @@ package sn.noreyni.springapi.application.usecase.comment.query;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
 import sn.noreyni.springapi.application.mapper.CommentMapper;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
 import sn.noreyni.springapi.domain.repository.CommentRepository;
+import sn.noreyni.springapi.infrastructure.persistence.routing.ReadRouting;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -15,12 +17,15 @@ import reactor.core.publisher.Mono;
 public class GetCommentsByArticleQuery {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final PageSizeLimit pageSizeLimit;
+    private final ReadRouting readRouting;
 
     public Mono<Page<CommentDto>> execute(Long articleId, Pageable pageable) {
-        return commentRepository.findByArticleId(articleId, pageable)
-                .map(commentMapper::toDto)
-                .collectList()
-                .zipWith(commentRepository.countByArticleId(articleId))
-                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+        return readRouting.readOnly(commentRepository.findPageByArticleId(articleId, pageSizeLimit.clamp(pageable))
+                .map(comments -> comments.map(commentMapper::toDto))
+                .flatMap(comments -> authorBatchLoader.attach(comments.getContent(),
+                                CommentDto::getAuthorId, CommentDto::setAuthor)
+                        .thenReturn(comments)));
     }
 }
@@ -0,0 +1,37 @@
+package sn.noreyni.springapi.application.usecase.comment.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.loader.AuthorBatchLoader;
+import sn.noreyni.springapi.application.mapper.CommentMapper;
+import sn.noreyni.springapi.application.pagination.CursorPages;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.repository.CommentRepository;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class GetCommentsByArticleScrollQuery {
+    private final CommentRepository commentRepository;
+    private final CommentMapper commentMapper;
+    private final AuthorBatchLoader authorBatchLoader;
+    private final PageSizeLimit pageSizeLimit;
+
+    public Mono<CursorPageDto<CommentDto>> execute(Long articleId, String cursor, int requestedSize) {
+        return Mono.defer(() -> {
+            int size = pageSizeLimit.clamp(requestedSize);
+            Cursor position = CursorPages.decode(cursor);
+            return commentRepository.findByArticleIdAndCursor(articleId, position, size + 1)
+                    .collectList()
+                    .map(comments -> CursorPages.of(comments, position, size,
+                            comment -> Cursor.of(comment.getCreatedAt(), comment.getId()),
+                            commentMapper::toDto))
+                    .flatMap(page -> authorBatchLoader.attach(page.getContent(),
+                                    CommentDto::getAuthorId, CommentDto::setAuthor)
+                            .thenReturn(page));
+        });
+    }
+}
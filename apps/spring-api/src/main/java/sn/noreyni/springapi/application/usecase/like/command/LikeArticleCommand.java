@@ -0,0 +1,39 @@
+package sn.noreyni.springapi.application.usecase.like.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.LikeDto;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleLikeIndex;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
+
+@Service
+@RequiredArgsConstructor
+public class LikeArticleCommand {
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleLikeIndex articleLikeIndex;
+    private final TrendingTracker trendingTracker;
+
+    public Mono<LikeDto> execute(Long articleId, Long userId) {
+        return articleLikeRepository.like(articleId, userId)
+                // the like row references a missing article
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new BlogException(HttpStatus.NOT_FOUND, "Article not found"))
+                .map(result -> {
+                    if (result.isChanged()) {
+                        articleLikeIndex.record(articleId, userId, true);
+                        trendingTracker.record(articleId, TrendingSignal.LIKE);
+                    }
+                    return LikeDto.builder()
+                            .articleId(articleId)
+                            .likes(result.getLikes())
+                            .liked(true)
+                            .build();
+                });
+    }
+}
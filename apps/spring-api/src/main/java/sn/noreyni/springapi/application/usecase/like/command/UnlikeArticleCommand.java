@@ -0,0 +1,32 @@
+package sn.noreyni.springapi.application.usecase.like.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.LikeDto;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleLikeIndex;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+
+@Service
+@RequiredArgsConstructor
+public class UnlikeArticleCommand {
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleLikeIndex articleLikeIndex;
+
+    public Mono<LikeDto> execute(Long articleId, Long userId) {
+        return articleLikeRepository.unlike(articleId, userId)
+                .switchIfEmpty(Mono.error(new BlogException(HttpStatus.NOT_FOUND, "Article not found")))
+                .map(result -> {
+                    if (result.isChanged()) {
+                        articleLikeIndex.record(articleId, userId, false);
+                    }
+                    return LikeDto.builder()
+                            .articleId(articleId)
+                            .likes(result.getLikes())
+                            .liked(false)
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,24 @@
+package sn.noreyni.springapi.application.usecase.like.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.LikeDto;
+import sn.noreyni.springapi.infrastructure.cache.ArticleLikeIndex;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+
+@Service
+@RequiredArgsConstructor
+public class GetLikeStatusQuery {
+    private final ArticleLikeIndex articleLikeIndex;
+
+    public Mono<LikeDto> execute(Long articleId, Long userId) {
+        return articleLikeIndex.hasLiked(articleId, userId)
+                .map(liked -> LikeDto.builder()
+                        .articleId(articleId)
+                        .liked(liked)
+                        .build())
+                .switchIfEmpty(Mono.error(new BlogException(HttpStatus.NOT_FOUND, "Article not found")));
+    }
+}
@@ -0,0 +1,20 @@
+package sn.noreyni.springapi.application.usecase.tag.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.application.dto.TagCountDto;
+import sn.noreyni.springapi.application.mapper.TagMapper;
+import sn.noreyni.springapi.domain.repository.TagRepository;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class GetTagListQuery {
+    private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+
+    public Flux<TagCountDto> execute(int limit) {
+        return tagRepository.findMostUsed(limit)
+                .map(tagMapper::toCountDto);
+    }
+}
@@ -7,7 +7,6 @@ import sn.noreyni.springapi.domain.model.User;
 import sn.noreyni.springapi.domain.repository.UserRepository;
 import sn.noreyni.springapi.infrastructure.exception.BlogException;
 import sn.noreyni.springapi.infrastructure.security.JwtService;
-import sn.noreyni.springapi.infrastructure.security.ReactiveUserDetailsServiceImpl;
 import sn.noreyni.springapi.web.response.AuthResponse;
 import org.springframework.http.HttpStatus;
 import reactor.core.publisher.Mono;
@@ -20,7 +19,6 @@ public class CreateUserCommand {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final ReactiveUserDetailsServiceImpl userDetailsService;
 
     public Mono<AuthResponse> execute(User user) {
         return userRepository.existsByEmail(user.getEmail())
@@ -33,11 +31,10 @@ public class CreateUserCommand {
                     user.setCreatedAt(LocalDateTime.now());
                     return userRepository.save(user);
                 })
-                .flatMap(savedUser -> userDetailsService.findByUsername(savedUser.getEmail())
-                        .map(userDetails -> AuthResponse.builder()
-                                .token(jwtService.generateToken(userDetails))
-                                .email(savedUser.getEmail())
-                                .role(savedUser.getRole())
-                                .build()));
+                .map(savedUser -> AuthResponse.builder()
+                        .token(jwtService.generateToken(savedUser))
+                        .email(savedUser.getEmail())
+                        .role(savedUser.getRole())
+                        .build());
     }
 }
@@ -8,6 +8,7 @@ import sn.noreyni.springapi.application.dto.UserDto;
 import sn.noreyni.springapi.application.mapper.UserMapper;
 import sn.noreyni.springapi.domain.model.User;
 import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
 import sn.noreyni.springapi.infrastructure.exception.BlogException;
 
 @Service
@@ -15,6 +16,7 @@ import sn.noreyni.springapi.infrastructure.exception.BlogException;
 public class UpdateUserCommand {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ArticleCache articleCache;
 
     public Mono<UserDto> execute(Long id, User updateInfo) {
         return userRepository.findById(id)
@@ -26,6 +28,8 @@ public class UpdateUserCommand {
                     existingUser.setEmail(updateInfo.getEmail());
                     return userRepository.save(existingUser);
                 })
+                // Article details and cached responses embed the author's name
+                .flatMap(saved -> articleCache.evictAll().thenReturn(saved))
                 .map(userMapper::toDto);
     }
 }
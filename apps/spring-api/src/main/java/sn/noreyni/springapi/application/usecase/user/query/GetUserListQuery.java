@@ -7,7 +7,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import sn.noreyni.springapi.application.dto.UserDto;
 import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.User;
 import sn.noreyni.springapi.domain.repository.UserRepository;
+import sn.noreyni.springapi.infrastructure.cache.TotalCountCache;
+import sn.noreyni.springapi.infrastructure.persistence.routing.ReadRouting;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -15,12 +19,18 @@ import reactor.core.publisher.Mono;
 public class GetUserListQuery {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final TotalCountCache totalCountCache;
+    private final ReadRouting readRouting;
+    private final PageSizeLimit pageSizeLimit;
 
-    public Mono<Page<UserDto>> execute(Pageable pageable) {
-        return userRepository.findAll(pageable)
-                .map(userMapper::toDto)
-                .collectList()
-                .zipWith(userRepository.count())
-                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    public Mono<Page<UserDto>> execute(Pageable requested) {
+        Pageable pageable = pageSizeLimit.clamp(requested);
+        Mono<Page<User>> page = totalCountCache.isEnabled()
+                ? userRepository.findAll(pageable)
+                        .collectList()
+                        .zipWith(totalCountCache.userCount())
+                        .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))
+                : userRepository.findPage(pageable);
+        return readRouting.readOnly(page.map(users -> users.map(userMapper::toDto)));
     }
 }
@@ -0,0 +1,32 @@
+package sn.noreyni.springapi.application.usecase.user.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.dto.UserDto;
+import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.pagination.CursorPages;
+import sn.noreyni.springapi.application.pagination.PageSizeLimit;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+@Service
+@RequiredArgsConstructor
+public class GetUserScrollQuery {
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PageSizeLimit pageSizeLimit;
+
+    public Mono<CursorPageDto<UserDto>> execute(String cursor, int requestedSize) {
+        return Mono.defer(() -> {
+            int size = pageSizeLimit.clamp(requestedSize);
+            Cursor position = CursorPages.decode(cursor);
+            return userRepository.findAllByCursor(position, size + 1)
+                    .collectList()
+                    .map(users -> CursorPages.of(users, position, size,
+                            user -> Cursor.of(user.getCreatedAt(), user.getId()),
+                            userMapper::toDto));
+        });
+    }
+}
@@ -9,18 +9,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Article {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private String imageUrl;
     private ArticleStatus status;
     private Long authorId;
     private Integer views;
     private Integer likes;
+    private Integer commentCount;
+    private Long contentVersion;
     private List<Tag> tags;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
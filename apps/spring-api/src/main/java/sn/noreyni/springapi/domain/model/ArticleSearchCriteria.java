@@ -0,0 +1,16 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchCriteria {
+    private String query;
+    private String tag;
+    private ArticleStatus status;
+}
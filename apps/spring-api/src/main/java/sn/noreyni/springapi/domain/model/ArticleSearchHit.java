@@ -0,0 +1,15 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchHit {
+    private ArticleSummary article;
+    private float rank;
+}
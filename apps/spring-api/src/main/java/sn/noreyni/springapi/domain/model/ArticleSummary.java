@@ -0,0 +1,44 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// What article lists show: everything but the body, which is replaced by a short excerpt
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummary {
+    public static final int EXCERPT_LENGTH = 280;
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String imageUrl;
+    private ArticleStatus status;
+    private Long authorId;
+    private Integer views;
+    private Integer likes;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String text = content.replaceAll("\\s+", " ").trim();
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int end = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        if (end < EXCERPT_LENGTH / 2) {
+            end = EXCERPT_LENGTH;
+        }
+        return text.substring(0, end) + "…";
+    }
+}
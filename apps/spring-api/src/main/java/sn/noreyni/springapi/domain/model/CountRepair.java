@@ -0,0 +1,16 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of reconciling one batch of denormalized counters; lastId is null past the last row
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CountRepair {
+    private Long lastId;
+    private long repaired;
+}
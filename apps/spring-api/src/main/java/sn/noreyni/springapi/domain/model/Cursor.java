@@ -0,0 +1,60 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Cursor {
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime createdAt;
+    private Long id;
+    // true when the cursor points to the rows that come before this position (the previous page)
+    private boolean backward;
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return Cursor.builder().createdAt(createdAt).id(id).build();
+    }
+
+    public Cursor next() {
+        return toBuilder().backward(false).build();
+    }
+
+    public Cursor previous() {
+        return toBuilder().backward(true).build();
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                backward ? "b" : "a",
+                createdAt != null ? createdAt.toString() : "",
+                String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return Cursor.builder()
+                    .backward("b".equals(parts[0]))
+                    .createdAt(parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]))
+                    .id(Long.valueOf(parts[2]))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
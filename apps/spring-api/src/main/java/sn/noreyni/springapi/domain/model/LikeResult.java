@@ -0,0 +1,18 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeResult {
+    private Long articleId;
+    // likes of the article after this change
+    private Integer likes;
+    // false when the like (or unlike) was already recorded for this user
+    private boolean changed;
+}
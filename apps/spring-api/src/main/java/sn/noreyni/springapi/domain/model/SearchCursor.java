@@ -0,0 +1,44 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Position in a ranked result list; rank is kept as the exact float Postgres returned so that
+// the (rank, id) comparison on the next page neither skips nor repeats rows
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchCursor {
+    private static final String SEPARATOR = "|";
+
+    private float rank;
+    private Long id;
+
+    public static SearchCursor of(float rank, Long id) {
+        return SearchCursor.builder().rank(rank).id(id).build();
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, "r", Float.toString(rank), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !"r".equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return SearchCursor.of(Float.parseFloat(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
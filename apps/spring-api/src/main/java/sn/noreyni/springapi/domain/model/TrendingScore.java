@@ -0,0 +1,19 @@
+package sn.noreyni.springapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Decayed score of an article as it stood at scoredAt
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingScore {
+    private Long articleId;
+    private double score;
+    private LocalDateTime scoredAt;
+}
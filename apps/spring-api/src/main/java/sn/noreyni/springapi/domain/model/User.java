@@ -20,4 +20,12 @@ public class User {
     private String password;
     private String role;
     private LocalDateTime createdAt;
+
+    // Full name, or the username when neither name is set
+    public String displayName() {
+        String fullName = String.join(" ",
+                firstName != null ? firstName : "",
+                lastName != null ? lastName : "").trim();
+        return fullName.isEmpty() ? username : fullName;
+    }
 }
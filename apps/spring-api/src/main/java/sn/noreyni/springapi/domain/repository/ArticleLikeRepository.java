@@ -0,0 +1,15 @@
+package sn.noreyni.springapi.domain.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.LikeResult;
+
+import java.util.Map;
+
+public interface ArticleLikeRepository {
+    Mono<LikeResult> like(Long articleId, Long userId);
+    Mono<LikeResult> unlike(Long articleId, Long userId);
+    Flux<Long> findUserIdsByArticleId(Long articleId);
+    // Moves the pending like deltas into the articles, returning the delta applied to each
+    Mono<Map<Long, Long>> foldCounts();
+}
@@ -1,16 +1,41 @@
 package sn.noreyni.springapi.domain.repository;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
+import sn.noreyni.springapi.domain.model.ArticleSearchHit;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.CountRepair;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.model.SearchCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface ArticleRepository {
     Mono<Article> findById(Long id);
-    Flux<Article> findAll(Pageable pageable);
-    Flux<Article> findAllByAuthorId(Long authorId, Pageable pageable);
+    Mono<Boolean> existsById(Long id);
+    Flux<ArticleSummary> findAll(Pageable pageable);
+    Flux<ArticleSummary> findAllByAuthorId(Long authorId, Pageable pageable);
+    Mono<Page<ArticleSummary>> findPage(Pageable pageable);
+    Mono<Page<ArticleSummary>> findPageByAuthorId(Long authorId, Pageable pageable);
+    Flux<ArticleSummary> findAllByCursor(Cursor cursor, int limit);
+    Flux<ArticleSummary> findAllByAuthorIdAndCursor(Long authorId, Cursor cursor, int limit);
+    Flux<ArticleSummary> findSummariesByIds(Collection<Long> ids);
+    Flux<Article> streamAll();
+    Flux<ArticleSummary> findAllByTagAndCursor(String tag, Cursor cursor, int limit);
+    Flux<ArticleSearchHit> search(ArticleSearchCriteria criteria, SearchCursor after, int limit);
     Mono<Long> count();
     Mono<Long> countByAuthorId(Long authorId);
+    Mono<Long> estimateCount();
     Mono<Article> save(Article article);
+    // Tags must already carry their ids; returns the new ids in input order
+    Mono<List<Long>> insertAll(List<Article> articles);
     Mono<Void> deleteById(Long id);
+    Mono<Void> incrementViews(Map<Long, Long> deltas);
+    Mono<CountRepair> repairCommentCounts(Long afterId, int batchSize);
 }
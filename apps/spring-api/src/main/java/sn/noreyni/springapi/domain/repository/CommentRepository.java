@@ -1,14 +1,19 @@
 package sn.noreyni.springapi.domain.repository;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.model.Cursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CommentRepository {
     Mono<Comment> findById(Long id);
     Flux<Comment> findByArticleId(Long articleId, Pageable pageable);
+    Mono<Page<Comment>> findPageByArticleId(Long articleId, Pageable pageable);
+    Flux<Comment> findByArticleIdAndCursor(Long articleId, Cursor cursor, int limit);
     Mono<Long> countByArticleId(Long articleId);
     Mono<Comment> save(Comment comment);
     Mono<Void> deleteById(Long id);
+    Mono<Long> deleteByIdAndAuthorId(Long id, Long authorId);
 }
@@ -0,0 +1,14 @@
+package sn.noreyni.springapi.domain.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.TagCount;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TagRepository {
+    Flux<TagCount> findMostUsed(int limit);
+    // Ids by name, creating the tags that do not exist yet
+    Mono<Map<String, Long>> resolveIds(Collection<String> names);
+}
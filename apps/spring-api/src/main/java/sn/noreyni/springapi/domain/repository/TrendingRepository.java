@@ -0,0 +1,14 @@
+package sn.noreyni.springapi.domain.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TrendingRepository {
+    Flux<TrendingScore> findSnapshot();
+    // Adds each score to the stored one, both decayed to the later of their times
+    Mono<Void> mergeSnapshot(List<TrendingScore> deltas, double halfLifeMillis, LocalDateTime staleBefore);
+}
@@ -1,16 +1,25 @@
 package sn.noreyni.springapi.domain.repository;
 
 import reactor.core.publisher.Flux;
+import sn.noreyni.springapi.domain.model.Cursor;
 import sn.noreyni.springapi.domain.model.User;
 import reactor.core.publisher.Mono;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface UserRepository {
     Mono<User> findById(Long id);
+    Flux<User> findAllByIds(Collection<Long> ids);
     Mono<User> findByEmail(String email);
+    Flux<User> findAllByEmails(Collection<String> emails);
     Mono<User> save(User user);
     Mono<Boolean> existsByEmail(String email);
     Flux<User> findAll(Pageable pageable);
+    Mono<Page<User>> findPage(Pageable pageable);
+    Flux<User> findAllByCursor(Cursor cursor, int limit);
     Mono<Long> count();
+    Mono<Long> estimateCount();
     Mono<Void> deleteById(Long id);
 }
@@ -0,0 +1,190 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.domain.model.Article;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// Local cache of articles and assembled article details. Every eviction is also broadcast with
+// pg_notify so that the other replicas drop their copy (see ArticleCacheInvalidationListener).
+// Entries are handed out as shallow copies, callers may adjust counters on what they get back.
+@Slf4j
+@Component
+public class ArticleCache {
+    static final String CHANNEL = "article_cache";
+    private static final String ALL = "*";
+
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int TAG_OVERHEAD = 64;
+    private static final int COMMENT_OVERHEAD = 128;
+
+    private final DatabaseClient databaseClient;
+    private final ResponseCache responseCache;
+    private final AsyncCache<Long, Article> articles;
+    private final AsyncCache<Long, ArticleDto> details;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public ArticleCache(DatabaseClient databaseClient,
+                        ResponseCache responseCache,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.cache.articles.max-bytes:33554432}") long maxBytes,
+                        @Value("${app.cache.articles.ttl-seconds:60}") long ttlSeconds) {
+        this.databaseClient = databaseClient;
+        this.responseCache = responseCache;
+        this.articles = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Article article) -> weigh(article))
+                .expireAfter(new ExpireAfterCreate<Long, Article>(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .buildAsync();
+        this.details = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, ArticleDto dto) -> weigh(dto))
+                .expireAfter(new ExpireAfterCreate<Long, ArticleDto>(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, articles.synchronous(), "articles");
+        CaffeineCacheMetrics.monitor(meterRegistry, details.synchronous(), "article_details");
+        this.localInvalidations = Counter.builder("article.cache.invalidations")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("article.cache.invalidations")
+                .tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    // Loads run detached from the caller's context and therefore always read from the primary: a lagging
+    // replica would otherwise put a row that was just evicted back for the whole TTL
+    public Mono<Article> article(Long id, Function<Long, Mono<Article>> loader) {
+        // Empty loads complete with null, which Caffeine does not keep
+        return Mono.fromFuture(() -> articles.get(id, (key, executor) -> loader.apply(key).toFuture()), true)
+                .map(article -> article.toBuilder().build());
+    }
+
+    public Mono<ArticleDto> detail(Long id, Function<Long, Mono<ArticleDto>> loader) {
+        return Mono.fromFuture(() -> details.get(id, (key, executor) -> loader.apply(key).toFuture()), true)
+                .map(dto -> dto.toBuilder().build());
+    }
+
+    // Drops the entry here and on every other replica
+    public Mono<Void> evict(Long id) {
+        invalidate(id);
+        localInvalidations.increment();
+        return broadcast(String.valueOf(id));
+    }
+
+    // An author profile changed: every cached detail and response may embed the old name
+    public Mono<Void> evictAll() {
+        clear();
+        localInvalidations.increment();
+        return broadcast(ALL);
+    }
+
+    // Counters flushed by this replica: cached copies move by the same amount instead of being reloaded,
+    // so hot articles stay cached. Other replicas' flushes show up when the entry expires.
+    public void addViews(Map<Long, Long> flushed) {
+        flushed.forEach((id, delta) -> adjust(id,
+                article -> article.toBuilder().views(plus(article.getViews(), delta)).build(),
+                dto -> dto.toBuilder().views(plus(dto.getViews(), delta)).build()));
+    }
+
+    public void addLikes(Map<Long, Long> folded) {
+        folded.forEach((id, delta) -> adjust(id,
+                article -> article.toBuilder().likes(plus(article.getLikes(), delta)).build(),
+                dto -> dto.toBuilder().likes(plus(dto.getLikes(), delta)).build()));
+    }
+
+    void onRemoteEviction(String payload) {
+        if (ALL.equals(payload)) {
+            clear();
+            remoteInvalidations.increment();
+            return;
+        }
+        try {
+            invalidate(Long.valueOf(payload));
+            remoteInvalidations.increment();
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed article cache notification: {}", payload);
+        }
+    }
+
+    // Notifications sent while the listener was disconnected are lost
+    void clear() {
+        articles.synchronous().invalidateAll();
+        details.synchronous().invalidateAll();
+        responseCache.clear();
+    }
+
+    private Mono<Void> broadcast(String payload) {
+        return databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", CHANNEL)
+                .bind("payload", payload)
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Failed to broadcast article cache eviction {}", payload, e);
+                    return Mono.empty();
+                });
+    }
+
+    private void invalidate(Long id) {
+        articles.synchronous().invalidate(id);
+        details.synchronous().invalidate(id);
+        responseCache.invalidateArticle(id);
+    }
+
+    private void adjust(Long id, UnaryOperator<Article> article, UnaryOperator<ArticleDto> detail) {
+        articles.asMap().computeIfPresent(id, (key, cached) -> adjusted(cached, article));
+        details.asMap().computeIfPresent(id, (key, cached) -> adjusted(cached, detail));
+    }
+
+    // A load still in flight may or may not have read the flushed rows, so it is dropped instead
+    private static <T> CompletableFuture<T> adjusted(CompletableFuture<T> cached, UnaryOperator<T> adjust) {
+        if (!cached.isDone() || cached.isCompletedExceptionally() || cached.join() == null) {
+            return null;
+        }
+        return CompletableFuture.completedFuture(adjust.apply(cached.join()));
+    }
+
+    private static Integer plus(Integer count, long delta) {
+        return (int) ((count != null ? count : 0) + delta);
+    }
+
+    private static int weigh(Article article) {
+        int tags = article.getTags() != null ? article.getTags().size() : 0;
+        return ENTRY_OVERHEAD + length(article.getTitle()) + length(article.getContent())
+                + length(article.getImageUrl()) + tags * TAG_OVERHEAD;
+    }
+
+    private static int weigh(ArticleDto dto) {
+        int weight = ENTRY_OVERHEAD * 2 + length(dto.getTitle()) + length(dto.getContent()) + length(dto.getImageUrl());
+        if (dto.getTags() != null) {
+            weight += dto.getTags().size() * TAG_OVERHEAD;
+        }
+        if (dto.getComments() != null) {
+            for (CommentDto comment : dto.getComments()) {
+                weight += COMMENT_OVERHEAD + length(comment.getContent());
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
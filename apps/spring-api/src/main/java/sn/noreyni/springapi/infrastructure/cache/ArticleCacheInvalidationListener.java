@@ -0,0 +1,94 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+// Also carries like changes for ArticleLikeIndex on its own channel.
+// LISTEN needs a connection of its own that is never returned to the pool, so it is opened
+// straight from the configured URL. spring.r2dbc.url must point at the postgresql driver, not r2dbc:pool.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.articles.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class ArticleCacheInvalidationListener {
+    private final ArticleCache articleCache;
+    private final ArticleLikeIndex articleLikeIndex;
+    private final ConnectionFactory connectionFactory;
+    private Disposable subscription;
+
+    public ArticleCacheInvalidationListener(ArticleCache articleCache, ArticleLikeIndex articleLikeIndex,
+                                            R2dbcProperties properties) {
+        this.articleCache = articleCache;
+        this.articleLikeIndex = articleLikeIndex;
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.connectionFactory = ConnectionFactories.get(options.build());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.usingWhen(
+                        Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+                        this::listen,
+                        connection -> connection.close())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Article cache listener disconnected, reconnecting", signal.failure())))
+                .subscribe(this::dispatch);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private void dispatch(Notification notification) {
+        String payload = notification.getParameter();
+        if (payload == null) {
+            return;
+        }
+        if (ArticleLikeIndex.CHANNEL.equals(notification.getName())) {
+            articleLikeIndex.onRemoteChange(payload);
+        } else {
+            articleCache.onRemoteEviction(payload);
+        }
+    }
+
+    private Flux<Notification> listen(PostgresqlConnection connection) {
+        return Flux.just(ArticleCache.CHANNEL, ArticleLikeIndex.CHANNEL)
+                .concatMap(channel -> connection.createStatement("LISTEN " + channel)
+                        .execute()
+                        .flatMap(result -> result.getRowsUpdated()))
+                .then(Mono.fromRunnable(() -> {
+                    // Anything changed elsewhere while we were not listening may still be cached here
+                    articleCache.clear();
+                    articleLikeIndex.clear();
+                    log.info("Listening for article cache evictions on channels {} and {}",
+                            ArticleCache.CHANNEL, ArticleLikeIndex.CHANNEL);
+                }))
+                .thenMany(connection.getNotifications())
+                .concatWith(Mono.error(new IllegalStateException("Notification stream closed")));
+    }
+}
@@ -0,0 +1,89 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+// Compressed bitmap of the users who liked an article, kept for recently accessed articles so that
+// "has this user liked it" is answered without a database round trip. The bitmap is 64-bit, so every
+// user id is stored as is. Bitmaps are mutated in place under their own monitor. Likes committed on other pods arrive through the CHANNEL notifications
+// that the like statements send; the TTL is only a backstop for a notification lost in a reconnect.
+@Component
+public class ArticleLikeIndex {
+    static final String CHANNEL = "article_likes";
+
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleRepository articleRepository;
+    private final AsyncCache<Long, Roaring64Bitmap> likers;
+
+    public ArticleLikeIndex(ArticleLikeRepository articleLikeRepository,
+                            ArticleRepository articleRepository,
+                            @Value("${app.likes.index.max-bytes:67108864}") long maxBytes,
+                            @Value("${app.likes.index.ttl-minutes:10}") long ttlMinutes) {
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleRepository = articleRepository;
+        this.likers = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long articleId, Roaring64Bitmap bitmap) -> (int) Math.min(Integer.MAX_VALUE, bitmap.getLongSizeInBytes()))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .buildAsync();
+    }
+
+    // Empty when the article does not exist
+    public Mono<Boolean> hasLiked(Long articleId, Long userId) {
+        return Mono.fromFuture(() -> likers.get(articleId, (id, executor) -> load(id)), true)
+                .map(bitmap -> {
+                    synchronized (bitmap) {
+                        return bitmap.contains(userId.longValue());
+                    }
+                });
+    }
+
+    public void record(Long articleId, Long userId, boolean liked) {
+        CompletableFuture<Roaring64Bitmap> bitmap = likers.getIfPresent(articleId);
+        if (bitmap == null) {
+            return;
+        }
+        // Also applied when a load is still in flight; adding or removing twice is harmless
+        bitmap.thenAccept(users -> {
+            synchronized (users) {
+                if (liked) {
+                    users.addLong(userId);
+                } else {
+                    users.removeLong(userId);
+                }
+            }
+        });
+    }
+
+    // Payload is "articleId,userId,1" for a like and "articleId,userId,0" for an unlike
+    public void onRemoteChange(String payload) {
+        String[] parts = payload.split(",");
+        if (parts.length != 3) {
+            return;
+        }
+        record(Long.valueOf(parts[0]), Long.valueOf(parts[1]), "1".equals(parts[2]));
+    }
+
+    public void clear() {
+        likers.synchronous().invalidateAll();
+    }
+
+    // A missing article completes with null, which Caffeine does not keep
+    private CompletableFuture<Roaring64Bitmap> load(Long articleId) {
+        return articleRepository.existsById(articleId)
+                .filter(Boolean::booleanValue)
+                .flatMap(exists -> articleLikeRepository.findUserIdsByArticleId(articleId)
+                        .collect(Roaring64Bitmap::new, Roaring64Bitmap::addLong))
+                .doOnNext(Roaring64Bitmap::runOptimize)
+                .toFuture();
+    }
+}
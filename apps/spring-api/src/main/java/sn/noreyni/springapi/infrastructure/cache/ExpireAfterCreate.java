@@ -0,0 +1,29 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+// Fixed lifetime counted from the load; adjusting an entry in place does not extend it
+final class ExpireAfterCreate<K, V> implements Expiry<K, V> {
+    private final long ttlNanos;
+
+    ExpireAfterCreate(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
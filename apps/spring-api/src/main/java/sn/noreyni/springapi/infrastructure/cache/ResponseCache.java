@@ -0,0 +1,104 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+// Serialized bodies of hot public responses, kept both as is and gzip-compressed. Invalidated through
+// ArticleCache, so a change to an article reaches this cache on every replica.
+@Component
+public class ResponseCache {
+    static final String ARTICLES_PATH = "/api/articles";
+
+    private final Cache<String, CachedResponse> responses;
+    private final boolean enabled;
+    // Moves on every invalidation; responses rendered across one are not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${app.cache.responses.enabled:true}") boolean enabled,
+                         @Value("${app.cache.responses.max-bytes:16777216}") long maxBytes,
+                         @Value("${app.cache.responses.ttl-seconds:10}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.identity.length + response.gzip.length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "http_responses");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public CachedResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    public void put(String key, long renderedAtGeneration, HttpHeaders headers, byte[] body, Long articleId, boolean published) {
+        CachedResponse response = new CachedResponse(headers, body, gzip(body), articleId, published);
+        if (generation.get() == renderedAtGeneration) {
+            responses.put(key, response);
+        }
+    }
+
+    // Content changed: the article itself and every list it may appear in
+    void invalidateArticle(Long id) {
+        generation.incrementAndGet();
+        String path = ARTICLES_PATH + "/" + id;
+        responses.asMap().keySet().removeIf(key -> isPath(key, path) || isPath(key, ARTICLES_PATH));
+    }
+
+    void clear() {
+        generation.incrementAndGet();
+        responses.invalidateAll();
+    }
+
+    private static boolean isPath(String key, String path) {
+        return pathOf(key).equals(path);
+    }
+
+    private static String pathOf(String key) {
+        int query = key.indexOf('?');
+        return query < 0 ? key : key.substring(0, query);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final HttpHeaders headers;
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final Long articleId;
+        private final boolean published;
+    }
+}
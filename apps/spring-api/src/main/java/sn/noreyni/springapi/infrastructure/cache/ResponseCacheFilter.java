@@ -0,0 +1,183 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.infrastructure.counter.ArticleViewCounter;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Serves anonymous GETs of the first article list pages and of article details from ResponseCache,
+// writing the stored bytes (gzip when accepted) without going through mapping or serialization.
+// Misses run the normal chain and keep a copy of the body on the way out.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements WebFilter {
+    private static final Pattern ARTICLE_PATH = Pattern.compile("^" + ResponseCache.ARTICLES_PATH + "/(\\d+)$");
+    private static final List<String> LIST_PARAMS = List.of("page", "size", "tag");
+
+    private final ResponseCache responseCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final TrendingTracker trendingTracker;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!responseCache.isEnabled() || request.getMethod() != HttpMethod.GET
+                || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return chain.filter(exchange);
+        }
+        String path = request.getPath().pathWithinApplication().value();
+        Long articleId = articleIdOf(path);
+        if (articleId == null && !isFirstListPage(path, request.getQueryParams())) {
+            return chain.filter(exchange);
+        }
+
+        String key = request.getURI().getRawQuery() != null ? path + "?" + request.getURI().getRawQuery() : path;
+        ResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return serve(exchange, cached);
+        }
+        long generation = responseCache.generation();
+        return chain.filter(exchange.mutate()
+                .response(new CapturingResponse(exchange.getResponse(), key, generation, articleId))
+                .build());
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, ResponseCache.CachedResponse cached) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().putAll(cached.getHeaders());
+        response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String etag = cached.getHeaders().getETag();
+        if (etag != null && request.getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        if (cached.getArticleId() != null) {
+            articleViewCounter.increment(cached.getArticleId());
+            if (cached.isPublished()) {
+                trendingTracker.record(cached.getArticleId(), TrendingSignal.VIEW);
+            }
+        }
+
+        byte[] body = cached.getIdentity();
+        if (acceptsGzip(request)) {
+            body = cached.getGzip();
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static Long articleIdOf(String path) {
+        Matcher matcher = ARTICLE_PATH.matcher(path);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static boolean isFirstListPage(String path, MultiValueMap<String, String> params) {
+        if (!path.equals(ResponseCache.ARTICLES_PATH) || !LIST_PARAMS.containsAll(params.keySet())) {
+            return false;
+        }
+        String page = params.getFirst("page");
+        return page == null || page.equals("0");
+    }
+
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").equals("q=0");
+                }
+            }
+        }
+        return false;
+    }
+
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+        private final String key;
+        private final long generation;
+        private final Long articleId;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, long generation, Long articleId) {
+            super(delegate);
+            this.key = key;
+            this.generation = generation;
+            this.articleId = articleId;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatus status = getStatusCode() != null ? HttpStatus.resolve(getStatusCode().value()) : HttpStatus.OK;
+            MediaType contentType = getHeaders().getContentType();
+            if (status != HttpStatus.OK || contentType == null || !contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        store(bytes);
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        private void store(byte[] bytes) {
+            HttpHeaders headers = new HttpHeaders();
+            copy(HttpHeaders.CONTENT_TYPE, headers);
+            copy(HttpHeaders.ETAG, headers);
+            copy(HttpHeaders.LAST_MODIFIED, headers);
+            copy(HttpHeaders.CACHE_CONTROL, headers);
+            try {
+                responseCache.put(key, generation, headers, bytes, articleId, articleId != null && isPublished(bytes));
+            } catch (RuntimeException e) {
+                log.warn("Failed to cache response for {}", key, e);
+            }
+        }
+
+        private void copy(String name, HttpHeaders target) {
+            List<String> values = getHeaders().get(name);
+            if (values != null) {
+                target.put(name, values);
+            }
+        }
+
+        private boolean isPublished(byte[] bytes) {
+            try {
+                return ArticleStatus.PUBLISHED.name().equals(objectMapper.readTree(bytes).path("status").asText());
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Opt-in totals for unfiltered lists, refreshed in the background. Large tables use the planner's
+// pg_class.reltuples estimate, small ones (below the exact threshold) a real COUNT(*).
+@Component
+@Slf4j
+public class TotalCountCache {
+    private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long exactThreshold;
+    private final AtomicLong articles = new AtomicLong(-1);
+    private final AtomicLong users = new AtomicLong(-1);
+
+    public TotalCountCache(ArticleRepository articleRepository,
+                           UserRepository userRepository,
+                           @Value("${app.pagination.estimated-totals.enabled:false}") boolean enabled,
+                           @Value("${app.pagination.estimated-totals.exact-threshold:100000}") long exactThreshold) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.exactThreshold = exactThreshold;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<Long> articleCount() {
+        return cachedOrLoad(articles, articleRepository::estimateCount, articleRepository::count);
+    }
+
+    public Mono<Long> userCount() {
+        return cachedOrLoad(users, userRepository::estimateCount, userRepository::count);
+    }
+
+    @Scheduled(fixedDelayString = "${app.pagination.estimated-totals.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Mono.when(
+                        load(articles, articleRepository::estimateCount, articleRepository::count),
+                        load(users, userRepository::estimateCount, userRepository::count))
+                .doOnError(e -> log.warn("Failed to refresh cached totals", e))
+                .onErrorComplete()
+                .block(REFRESH_TIMEOUT);
+    }
+
+    private Mono<Long> cachedOrLoad(AtomicLong cached, Supplier<Mono<Long>> estimate, Supplier<Mono<Long>> exact) {
+        long value = cached.get();
+        return value >= 0 ? Mono.just(value) : load(cached, estimate, exact);
+    }
+
+    private Mono<Long> load(AtomicLong cached, Supplier<Mono<Long>> estimate, Supplier<Mono<Long>> exact) {
+        return estimate.get()
+                .flatMap(estimated -> estimated >= exactThreshold ? Mono.just(estimated) : exact.get())
+                .doOnNext(cached::set);
+    }
+}
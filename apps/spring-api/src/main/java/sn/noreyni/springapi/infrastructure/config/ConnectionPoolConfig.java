@@ -0,0 +1,19 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sn.noreyni.springapi.infrastructure.persistence.pool.ConnectionPools;
+import sn.noreyni.springapi.infrastructure.persistence.pool.TimedConnectionFactory;
+
+// Single instrumented pool in place of the auto-configured one when no replica is configured
+@Configuration
+@ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "false", matchIfMissing = true)
+public class ConnectionPoolConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public TimedConnectionFactory connectionFactory(ConnectionPools connectionPools, R2dbcProperties properties) {
+        return connectionPools.create("primary", properties.getUrl(), properties.getUsername(), properties.getPassword());
+    }
+}
@@ -3,6 +3,7 @@ package sn.noreyni.springapi.infrastructure.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import sn.noreyni.springapi.domain.model.Article;
@@ -22,6 +23,7 @@ import java.util.Random;
 import java.util.UUID;
 
 @Configuration
+@ConditionalOnProperty(name = "app.seed.synthetic.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
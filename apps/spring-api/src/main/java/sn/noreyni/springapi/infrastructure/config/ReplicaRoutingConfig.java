@@ -0,0 +1,40 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import sn.noreyni.springapi.infrastructure.persistence.pool.ConnectionPools;
+import sn.noreyni.springapi.infrastructure.persistence.pool.TimedConnectionFactory;
+import sn.noreyni.springapi.infrastructure.persistence.routing.ReadWriteRoutingConnectionFactory;
+
+// Replaces the single pool with a primary and a replica pool behind a routing factory.
+// Both pools take their sizing from spring.r2dbc.pool.
+@Configuration
+@ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public TimedConnectionFactory primaryConnectionFactory(ConnectionPools connectionPools, R2dbcProperties properties) {
+        return connectionPools.create("primary", properties.getUrl(), properties.getUsername(), properties.getPassword());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public TimedConnectionFactory replicaConnectionFactory(ConnectionPools connectionPools,
+                                                           @Value("${app.r2dbc.replica.url}") String url,
+                                                           @Value("${app.r2dbc.replica.username:${spring.r2dbc.username:}}") String username,
+                                                           @Value("${app.r2dbc.replica.password:${spring.r2dbc.password:}}") String password) {
+        return connectionPools.create("replica", url, username, password);
+    }
+
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(@Qualifier("primaryConnectionFactory") ConnectionFactory primary,
+                                               @Qualifier("replicaConnectionFactory") ConnectionFactory replica) {
+        return new ReadWriteRoutingConnectionFactory(primary, replica);
+    }
+}
@@ -32,7 +32,10 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeExchange(exchanges -> exchanges
                         .pathMatchers("/api/auth/**", "/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/webjars/**", "/actuator/**").permitAll()
+                        .pathMatchers("/api/articles/*/likes/**").authenticated()
+                        .pathMatchers(HttpMethod.GET, "/api/articles/export").hasRole("ADMIN")
                         .pathMatchers(HttpMethod.GET, "/api/articles/**").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/tags/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/articles/*/comments/**").permitAll()
                         .pathMatchers("/api/users/**").hasRole("ADMIN")
                         .pathMatchers(HttpMethod.POST, "/api/articles/**").hasRole("ADMIN")
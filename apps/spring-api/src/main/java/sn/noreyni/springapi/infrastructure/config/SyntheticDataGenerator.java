@@ -0,0 +1,386 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// Bulk-loads a production-sized dataset into an empty database in place of DataInitializer.
+// Authors, comment targets, like targets and tags follow Zipf distributions, so a few users write
+// most articles and a few articles get most of the traffic. Rows are generated in batches, each from
+// its own random stream derived from the seed, so the same settings always produce the same data
+// whatever the concurrency. Counters are computed from the generated rows once everything is in.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.seed.synthetic.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements CommandLineRunner {
+    private static final int ADMINS = 5;
+    private static final int MAX_VIEWS = 1_000_000;
+    private static final Duration COMMENT_WINDOW = Duration.ofDays(30);
+    private static final String[] WORDS = {
+            "reactive", "stream", "query", "index", "latency", "cache", "cluster", "replica", "pool", "spring",
+            "postgres", "kubernetes", "deploy", "scale", "request", "thread", "memory", "batch", "cursor", "page",
+            "table", "commit", "lock", "vacuum", "plan", "metric", "trace", "gateway", "service", "token",
+            "the", "a", "of", "and", "with", "for", "under", "when", "every", "this"};
+
+    private final DatabaseClient databaseClient;
+    private final PasswordEncoder passwordEncoder;
+    private final long seed;
+    private final int users;
+    private final int tags;
+    private final int articles;
+    private final int comments;
+    private final int likes;
+    private final double exponent;
+    private final int batchSize;
+    private final int concurrency;
+    private final LocalDateTime end;
+    private final long spanSeconds;
+
+    public SyntheticDataGenerator(DatabaseClient databaseClient,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${app.seed.synthetic.seed:42}") long seed,
+                                  @Value("${app.seed.synthetic.users:10000}") int users,
+                                  @Value("${app.seed.synthetic.tags:500}") int tags,
+                                  @Value("${app.seed.synthetic.articles:100000}") int articles,
+                                  @Value("${app.seed.synthetic.comments:500000}") int comments,
+                                  @Value("${app.seed.synthetic.likes:1000000}") int likes,
+                                  @Value("${app.seed.synthetic.zipf-exponent:1.1}") double exponent,
+                                  @Value("${app.seed.synthetic.batch-size:5000}") int batchSize,
+                                  @Value("${app.seed.synthetic.concurrency:4}") int concurrency,
+                                  @Value("${app.seed.synthetic.end:2026-01-01T00:00:00}") LocalDateTime end,
+                                  @Value("${app.seed.synthetic.span-days:730}") long spanDays) {
+        this.databaseClient = databaseClient;
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+        this.users = Math.max(users, ADMINS);
+        this.tags = tags;
+        this.articles = articles;
+        this.comments = articles > 0 ? comments : 0;
+        this.likes = articles > 0 ? likes : 0;
+        this.exponent = exponent;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.end = end;
+        this.spanSeconds = Duration.ofDays(spanDays).toSeconds();
+    }
+
+    // Blocks startup until the data is in: readiness only turns to ACCEPTING_TRAFFIC once every runner
+    // has returned, so no replica takes traffic (and no test starts measuring) against a half-seeded database
+    @Override
+    public void run(String... args) {
+        databaseClient.sql("SELECT COUNT(*) AS total FROM users")
+                .map((row, rowMetadata) -> row.get("total", Long.class))
+                .one()
+                .flatMap(count -> {
+                    if (count > 0) {
+                        log.info("Database already contains data, skipping synthetic data generation.");
+                        return Mono.empty();
+                    }
+                    return generate();
+                })
+                .block();
+    }
+
+    private Mono<Void> generate() {
+        long started = System.nanoTime();
+        // One hash for every user, bcrypt per row would dominate the whole run
+        String password = passwordEncoder.encode("password");
+        ZipfSampler authorRanks = new ZipfSampler(users, exponent);
+        int[] authorByRank = permutation(users, 1);
+        ZipfSampler tagRanks = tags > 0 ? new ZipfSampler(tags, exponent) : null;
+        ZipfSampler articleRanks = articles > 0 ? new ZipfSampler(articles, exponent) : null;
+        int[] articleByRank = permutation(articles, 2);
+        int[] rankOfArticle = inverse(articleByRank);
+
+        return step("users", users, 10, (from, to, random) -> insertUsers(from, to, password))
+                .then(step("tags", tags, 11, (from, to, random) -> insertTags(from, to)))
+                .then(step("articles", articles, 12, (from, to, random) ->
+                        insertArticles(from, to, random, authorRanks, authorByRank, tagRanks, rankOfArticle)))
+                .then(step("comments", comments, 13, (from, to, random) ->
+                        insertComments(from, to, random, articleRanks, articleByRank, authorRanks, authorByRank)))
+                .then(step("likes", likes, 14, (from, to, random) -> insertLikes(from, to, random, articleRanks, articleByRank)))
+                .then(finish())
+                .doOnSuccess(v -> log.info("Synthetic data generated in {}s", Duration.ofNanos(System.nanoTime() - started).toSeconds()))
+                .doOnError(e -> log.error("Error during synthetic data generation", e));
+    }
+
+    private Mono<Void> step(String name, int total, long stream, BatchInsert insert) {
+        int batches = (total + batchSize - 1) / batchSize;
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            log.info("Generating {} {}", total, name);
+            return Flux.range(0, batches)
+                    .flatMap(batch -> insert.insert(batch * batchSize, Math.min(total, (batch + 1) * batchSize), random(stream, batch)), concurrency)
+                    .then()
+                    .doOnSuccess(v -> log.info("Generated {} {} in {}s", total, name, Duration.ofNanos(System.nanoTime() - started).toSeconds()));
+        });
+    }
+
+    private Mono<Void> insertUsers(int from, int to, String password) {
+        int size = to - from;
+        Long[] ids = new Long[size];
+        String[] usernames = new String[size];
+        String[] firstNames = new String[size];
+        String[] emails = new String[size];
+        String[] roles = new String[size];
+        LocalDateTime[] createdAt = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            int id = from + i + 1;
+            boolean admin = id <= ADMINS;
+            ids[i] = (long) id;
+            usernames[i] = admin ? "admin" + id : "user" + id;
+            firstNames[i] = admin ? "Admin" + id : "User" + id;
+            emails[i] = usernames[i] + "@example.com";
+            roles[i] = admin ? "ROLE_ADMIN" : "ROLE_USER";
+            createdAt[i] = timeOf(id, users);
+        }
+        return databaseClient.sql("INSERT INTO users (id, username, first_name, last_name, email, password, role, created_at) "
+                        + "SELECT id, username, first_name, 'LastName', email, :password, role, created_at "
+                        + "FROM UNNEST(:ids, :usernames, :firstNames, :emails, :roles, :createdAt) AS u(id, username, first_name, email, role, created_at)")
+                .bind("password", password)
+                .bind("ids", ids)
+                .bind("usernames", usernames)
+                .bind("firstNames", firstNames)
+                .bind("emails", emails)
+                .bind("roles", roles)
+                .bind("createdAt", createdAt)
+                .then();
+    }
+
+    private Mono<Void> insertTags(int from, int to) {
+        int size = to - from;
+        Long[] ids = new Long[size];
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = (long) (from + i + 1);
+            names[i] = "tag-" + ids[i];
+        }
+        return databaseClient.sql("INSERT INTO tags (id, name) SELECT * FROM UNNEST(:ids, :names)")
+                .bind("ids", ids)
+                .bind("names", names)
+                .then();
+    }
+
+    private Mono<Void> insertArticles(int from, int to, SplittableRandom random, ZipfSampler authorRanks, int[] authorByRank,
+                                      ZipfSampler tagRanks, int[] rankOfArticle) {
+        int size = to - from;
+        Long[] ids = new Long[size];
+        String[] titles = new String[size];
+        String[] contents = new String[size];
+        String[] excerpts = new String[size];
+        String[] imageUrls = new String[size];
+        String[] statuses = new String[size];
+        Long[] authorIds = new Long[size];
+        Integer[] views = new Integer[size];
+        LocalDateTime[] createdAt = new LocalDateTime[size];
+        Long[] tagArticleIds = new Long[size * 4];
+        Long[] tagIds = new Long[size * 4];
+        int links = 0;
+        for (int i = 0; i < size; i++) {
+            int id = from + i + 1;
+            ids[i] = (long) id;
+            titles[i] = "Article " + id + ": " + words(random, 3 + random.nextInt(8));
+            contents[i] = content(random);
+            excerpts[i] = ArticleSummary.excerptOf(contents[i]);
+            imageUrls[i] = "https://picsum.photos/seed/" + id + "/800/600";
+            statuses[i] = status(random).name();
+            authorIds[i] = (long) authorByRank[authorRanks.sample(random) - 1];
+            views[i] = (int) (MAX_VIEWS / Math.pow(rankOfArticle[id - 1], exponent)) + random.nextInt(50);
+            createdAt[i] = timeOf(id, articles);
+            if (tagRanks != null) {
+                Set<Integer> chosen = new LinkedHashSet<>();
+                int count = 1 + random.nextInt(4);
+                while (chosen.size() < Math.min(count, tags)) {
+                    chosen.add(tagRanks.sample(random));
+                }
+                for (int tag : chosen) {
+                    tagArticleIds[links] = (long) id;
+                    tagIds[links++] = (long) tag;
+                }
+            }
+        }
+        Mono<Void> rows = databaseClient.sql("INSERT INTO articles (id, title, content, excerpt, image_url, status, author_id, views, created_at, updated_at) "
+                        + "SELECT id, title, content, excerpt, image_url, status, author_id, views, created_at, created_at "
+                        + "FROM UNNEST(:ids, :titles, :contents, :excerpts, :imageUrls, :statuses, :authorIds, :views, :createdAt) "
+                        + "AS a(id, title, content, excerpt, image_url, status, author_id, views, created_at)")
+                .bind("ids", ids)
+                .bind("titles", titles)
+                .bind("contents", contents)
+                .bind("excerpts", excerpts)
+                .bind("imageUrls", imageUrls)
+                .bind("statuses", statuses)
+                .bind("authorIds", authorIds)
+                .bind("views", views)
+                .bind("createdAt", createdAt)
+                .then();
+        if (links == 0) {
+            return rows;
+        }
+        return rows.then(databaseClient.sql("INSERT INTO article_tags (article_id, tag_id) SELECT * FROM UNNEST(:articleIds, :tagIds)")
+                .bind("articleIds", Arrays.copyOf(tagArticleIds, links))
+                .bind("tagIds", Arrays.copyOf(tagIds, links))
+                .then());
+    }
+
+    private Mono<Void> insertComments(int from, int to, SplittableRandom random, ZipfSampler articleRanks, int[] articleByRank,
+                                      ZipfSampler authorRanks, int[] authorByRank) {
+        int size = to - from;
+        Long[] ids = new Long[size];
+        String[] contents = new String[size];
+        Long[] authorIds = new Long[size];
+        Long[] articleIds = new Long[size];
+        LocalDateTime[] createdAt = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            int articleId = articleByRank[articleRanks.sample(random) - 1];
+            ids[i] = (long) (from + i + 1);
+            contents[i] = capitalize(words(random, 5 + random.nextInt(40))) + ".";
+            authorIds[i] = (long) authorByRank[authorRanks.sample(random) - 1];
+            articleIds[i] = (long) articleId;
+            createdAt[i] = after(timeOf(articleId, articles), random);
+        }
+        return databaseClient.sql("INSERT INTO comments (id, content, author_id, article_id, created_at) "
+                        + "SELECT * FROM UNNEST(:ids, :contents, :authorIds, :articleIds, :createdAt)")
+                .bind("ids", ids)
+                .bind("contents", contents)
+                .bind("authorIds", authorIds)
+                .bind("articleIds", articleIds)
+                .bind("createdAt", createdAt)
+                .then();
+    }
+
+    private Mono<Void> insertLikes(int from, int to, SplittableRandom random, ZipfSampler articleRanks, int[] articleByRank) {
+        int size = to - from;
+        Long[] articleIds = new Long[size];
+        Long[] userIds = new Long[size];
+        LocalDateTime[] createdAt = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            int articleId = articleByRank[articleRanks.sample(random) - 1];
+            articleIds[i] = (long) articleId;
+            userIds[i] = (long) (1 + random.nextInt(users));
+            createdAt[i] = after(timeOf(articleId, articles), random);
+        }
+        // Popular articles draw the same user more than once, those pairs are dropped
+        return databaseClient.sql("INSERT INTO article_likes (article_id, user_id, created_at) "
+                        + "SELECT * FROM UNNEST(:articleIds, :userIds, :createdAt) ON CONFLICT DO NOTHING")
+                .bind("articleIds", articleIds)
+                .bind("userIds", userIds)
+                .bind("createdAt", createdAt)
+                .then();
+    }
+
+    private Mono<Void> finish() {
+        return Flux.concat(
+                        sql("UPDATE articles a SET likes = l.total FROM (SELECT article_id, COUNT(*) AS total FROM article_likes GROUP BY article_id) l WHERE a.id = l.article_id"),
+                        sql("UPDATE articles a SET comment_count = c.total FROM (SELECT article_id, COUNT(*) AS total FROM comments GROUP BY article_id) c WHERE a.id = c.article_id"),
+                        sql("UPDATE tags t SET article_count = c.total FROM (SELECT tag_id, COUNT(*) AS total FROM article_tags GROUP BY tag_id) c WHERE t.id = c.tag_id"),
+                        // Rows were inserted with explicit ids, the sequences still start at 1
+                        resetSequence("users", users),
+                        resetSequence("tags", tags),
+                        resetSequence("articles", articles),
+                        resetSequence("comments", comments),
+                        sql("ANALYZE"))
+                .then();
+    }
+
+    private Mono<Void> resetSequence(String table, int max) {
+        return databaseClient.sql("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), :value, :called)")
+                .bind("value", (long) Math.max(max, 1))
+                .bind("called", max > 0)
+                .then();
+    }
+
+    private Mono<Void> sql(String statement) {
+        return databaseClient.sql(statement).then();
+    }
+
+    // Spread evenly over the span, ending at the configured date: ids grow with time like real data
+    private LocalDateTime timeOf(int id, int total) {
+        return end.minusSeconds(spanSeconds * (total - id) / Math.max(total, 1));
+    }
+
+    private LocalDateTime after(LocalDateTime start, SplittableRandom random) {
+        LocalDateTime time = start.plusSeconds(random.nextLong(COMMENT_WINDOW.toSeconds()));
+        return time.isAfter(end) ? end : time;
+    }
+
+    private SplittableRandom random(long stream, int batch) {
+        return new SplittableRandom(seed ^ (stream * 0x9E3779B97F4A7C15L) ^ (batch * 0xBF58476D1CE4E5B9L));
+    }
+
+    // Decouples rank from id, otherwise the most popular rows would all be the oldest ones
+    private int[] permutation(int size, long stream) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i + 1;
+        }
+        SplittableRandom random = random(stream, -1);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static int[] inverse(int[] permutation) {
+        int[] inverse = new int[permutation.length];
+        for (int rank = 1; rank <= permutation.length; rank++) {
+            inverse[permutation[rank - 1] - 1] = rank;
+        }
+        return inverse;
+    }
+
+    // Roughly log-normal lengths, a median around 250 words with a long tail
+    private static String content(SplittableRandom random) {
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        int words = (int) Math.min(5000, Math.max(20, Math.exp(5.5 + 0.8 * gaussian)));
+        StringBuilder content = new StringBuilder(words * 8);
+        while (words > 0) {
+            int sentence = Math.min(words, 6 + random.nextInt(15));
+            content.append(capitalize(words(random, sentence))).append(". ");
+            words -= sentence;
+        }
+        return content.toString().trim();
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder words = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static ArticleStatus status(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 85 ? ArticleStatus.PUBLISHED : roll < 95 ? ArticleStatus.DRAFT : ArticleStatus.ARCHIVED;
+    }
+
+    @FunctionalInterface
+    private interface BatchInsert {
+        Mono<Void> insert(int from, int to, SplittableRandom random);
+    }
+}
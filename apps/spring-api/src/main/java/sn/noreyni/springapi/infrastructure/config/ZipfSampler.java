@@ -0,0 +1,30 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Ranks 1..n drawn with probability proportional to 1 / rank^exponent, by binary search over a
+// precomputed CDF (8 bytes per rank)
+final class ZipfSampler {
+    private final double[] cdf;
+
+    ZipfSampler(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cdf.length - 1) + 1;
+    }
+}
@@ -0,0 +1,33 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+
+import java.util.Map;
+
+@Component
+public class ArticleViewCounter extends WriteBehindCounter {
+    private final ArticleRepository articleRepository;
+    private final ArticleCache articleCache;
+
+    public ArticleViewCounter(ArticleRepository articleRepository, ArticleCache articleCache) {
+        super("article views");
+        this.articleRepository = articleRepository;
+        this.articleCache = articleCache;
+    }
+
+    @Override
+    protected Mono<Void> persist(Map<Long, Long> deltas) {
+        // Cached copies hold the persisted count, which this flush just moved
+        return articleRepository.incrementViews(deltas)
+                .doOnSuccess(done -> articleCache.addViews(deltas));
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flushBlocking();
+    }
+}
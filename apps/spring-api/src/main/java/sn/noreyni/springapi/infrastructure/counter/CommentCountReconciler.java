@@ -0,0 +1,51 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.CountRepair;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+
+import java.time.Duration;
+
+// Walks the articles table by id in small batches and rewrites comment_count where it no longer
+// matches the comments table. Each batch is its own statement, so locks are held briefly; a comment
+// racing with a batch may leave a drift that the next run corrects.
+@Component
+@Slf4j
+public class CommentCountReconciler {
+    private static final Duration RUN_TIMEOUT = Duration.ofMinutes(30);
+
+    private final ArticleRepository articleRepository;
+    private final int batchSize;
+
+    public CommentCountReconciler(ArticleRepository articleRepository,
+                                  @Value("${app.comments.reconcile.batch-size:500}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.comments.reconcile.interval-ms:3600000}",
+            initialDelayString = "${app.comments.reconcile.initial-delay-ms:600000}")
+    public void scheduledReconcile() {
+        try {
+            Long repaired = reconcile().block(RUN_TIMEOUT);
+            if (repaired != null && repaired > 0) {
+                log.info("Repaired comment counts of {} articles", repaired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Comment count reconciliation failed", e);
+        }
+    }
+
+    public Mono<Long> reconcile() {
+        return articleRepository.repairCommentCounts(0L, batchSize)
+                .expand(batch -> batch.getLastId() == null
+                        ? Mono.empty()
+                        : articleRepository.repairCommentCounts(batch.getLastId(), batchSize))
+                .map(CountRepair::getRepaired)
+                .reduce(0L, Long::sum);
+    }
+}
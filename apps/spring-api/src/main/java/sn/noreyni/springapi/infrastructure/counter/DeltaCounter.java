@@ -0,0 +1,56 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Accumulates per-key deltas in striped LongAdders so hot keys never contend on a lock or a shared
+// word. drain() takes each adder's sum with sumThenReset(), which hands every increment to exactly one
+// drain. Adders that stayed idle since the previous drain are dropped; a writer that finds its adder
+// dropped after adding to it moves whatever the drain missed into the key's new adder.
+public class DeltaCounter {
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long key) {
+        add(key, 1);
+    }
+
+    public void add(Long key, long delta) {
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(delta);
+        if (counters.get(key) != adder) {
+            long missed = adder.sumThenReset();
+            if (missed != 0) {
+                add(key, missed);
+            }
+        }
+    }
+
+    public long pending(Long key) {
+        LongAdder adder = counters.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0 && counters.remove(key, adder)) {
+                // Added between the reset and the removal, unless the writer already moved it
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        return deltas;
+    }
+
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
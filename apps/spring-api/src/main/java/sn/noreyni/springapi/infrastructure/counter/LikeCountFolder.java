@@ -0,0 +1,39 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Periodically moves the sharded like deltas into articles.likes. The deltas are rows of their own,
+// so nothing is lost when a pod stops before a fold; any pod may run it.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LikeCountFolder {
+    private static final Duration FOLD_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleCache articleCache;
+
+    @Scheduled(fixedDelayString = "${app.likes.fold-interval-ms:2000}")
+    public void scheduledFold() {
+        try {
+            fold().block(FOLD_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Folding like counts failed, the deltas stay for the next run", e);
+        }
+    }
+
+    public Mono<Map<Long, Long>> fold() {
+        // Cached copies hold the folded count, which this fold just moved
+        return articleLikeRepository.foldCounts()
+                .doOnNext(articleCache::addLikes);
+    }
+}
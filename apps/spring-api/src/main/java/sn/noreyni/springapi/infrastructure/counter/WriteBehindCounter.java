@@ -0,0 +1,57 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Per-article counter that is incremented in memory and persisted in batches by a scheduled flush.
+@Slf4j
+public abstract class WriteBehindCounter {
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final DeltaCounter deltas = new DeltaCounter();
+
+    protected WriteBehindCounter(String name) {
+        this.name = name;
+    }
+
+    protected abstract Mono<Void> persist(Map<Long, Long> deltas);
+
+    public void increment(Long articleId) {
+        deltas.increment(articleId);
+    }
+
+    public long pending(Long articleId) {
+        return deltas.pending(articleId);
+    }
+
+    public Mono<Void> flush() {
+        Map<Long, Long> drained = deltas.drain();
+        if (drained.isEmpty()) {
+            return Mono.empty();
+        }
+        // A timed-out flush may still commit, restoring then counts it twice; better than losing it
+        return persist(drained)
+                .timeout(FLUSH_TIMEOUT)
+                .doOnSuccess(v -> log.debug("Flushed {} for {} articles", name, drained.size()))
+                .onErrorResume(e -> {
+                    log.warn("Failed to flush {}, keeping {} deltas for the next attempt", name, drained.size(), e);
+                    deltas.restore(drained);
+                    return Mono.empty();
+                });
+    }
+
+    protected void flushBlocking() {
+        flush().block();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending {} before shutdown", name);
+        flushBlocking();
+    }
+}
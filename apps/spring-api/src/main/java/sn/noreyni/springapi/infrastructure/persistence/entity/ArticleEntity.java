@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.relational.core.mapping.Table;
 
 import sn.noreyni.springapi.domain.model.ArticleStatus;
@@ -21,11 +22,20 @@ public class ArticleEntity {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private String imageUrl;
     private ArticleStatus status;
     private Long authorId;
+    // Counters are only moved by their own increments, never written back from a loaded row
+    @ReadOnlyProperty
     private Integer views;
+    @ReadOnlyProperty
     private Integer likes;
+    @ReadOnlyProperty
+    private Integer commentCount;
+    // Moved by the articles_content_version trigger
+    @ReadOnlyProperty
+    private Long contentVersion;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,29 @@
+package sn.noreyni.springapi.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+
+import java.time.LocalDateTime;
+
+// Projection of the articles table without the content column
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummaryEntity {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String imageUrl;
+    private ArticleStatus status;
+    private Long authorId;
+    private Integer views;
+    private Integer likes;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,57 @@
+package sn.noreyni.springapi.infrastructure.persistence.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Opens every pool's minimum connections before the application is ready, and stays DOWN until
+// that is done. Part of the readiness group, so a new pod only gets traffic once it is connected.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolHealthIndicator implements ReactiveHealthIndicator {
+    private final ConnectionPools connectionPools;
+    private final Set<String> warmed = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        connectionPools.pools().forEach((name, pool) -> pool.warmup()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Failed to warm up connection pool {}, retrying", name, signal.failure())))
+                .subscribe(opened -> {
+                    warmed.add(name);
+                    log.info("Connection pool {} warmed up, {} connections opened", name, opened);
+                }));
+    }
+
+    @Override
+    public Mono<Health> health() {
+        Map<String, ConnectionPool> pools = connectionPools.pools();
+        Health.Builder builder = warmed.containsAll(pools.keySet()) ? Health.up() : Health.down();
+        pools.forEach((name, pool) -> pool.getMetrics().ifPresent(metrics -> builder.withDetail(name, details(name, metrics))));
+        return Mono.just(builder.build());
+    }
+
+    private Map<String, Object> details(String name, PoolMetrics metrics) {
+        return Map.of(
+                "warmedUp", warmed.contains(name),
+                "acquired", metrics.acquiredSize(),
+                "idle", metrics.idleSize(),
+                "pending", metrics.pendingAcquireSize(),
+                "max", metrics.getMaxAllocatedSize());
+    }
+}
@@ -0,0 +1,63 @@
+package sn.noreyni.springapi.infrastructure.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Builds the application's connection pools from spring.r2dbc.pool, exports their gauges
+// (r2dbc.pool.acquired, idle, pending...) and keeps track of them for the warm-up.
+@Component
+public class ConnectionPools {
+    private final R2dbcProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConnectionPool> pools = new ConcurrentHashMap<>();
+
+    public ConnectionPools(R2dbcProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public TimedConnectionFactory create(String name, String url, String username, String password) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null && !username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null && !password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        R2dbcProperties.Pool settings = properties.getPool();
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(settings.getInitialSize())
+                .minIdle(settings.getMinIdle())
+                .maxSize(settings.getMaxSize())
+                .validationDepth(settings.getValidationDepth());
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(settings.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(settings.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(settings.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(settings.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(settings.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(settings.getValidationQuery()).to(builder::validationQuery);
+
+        ConnectionPool pool = new ConnectionPool(builder.build());
+        new ConnectionPoolMetrics(pool, name, Tags.empty()).bindTo(meterRegistry);
+        pools.put(name, pool);
+        return new TimedConnectionFactory(name, pool, meterRegistry);
+    }
+
+    public Map<String, ConnectionPool> pools() {
+        return Map.copyOf(pools);
+    }
+}
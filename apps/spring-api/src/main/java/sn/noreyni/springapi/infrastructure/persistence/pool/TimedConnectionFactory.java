@@ -0,0 +1,60 @@
+package sn.noreyni.springapi.infrastructure.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Times every acquisition from the pool, tagged with its outcome. An acquisition that runs into
+// spring.r2dbc.pool.max-acquire-time is recorded as a timeout.
+public class TimedConnectionFactory implements ConnectionFactory {
+    private final ConnectionPool pool;
+    private final Timer acquired;
+    private final Timer timedOut;
+    private final Timer failed;
+
+    TimedConnectionFactory(String name, ConnectionPool pool, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.acquired = timer(name, "success", meterRegistry);
+        this.timedOut = timer(name, "timeout", meterRegistry);
+        this.failed = timer(name, "error", meterRegistry);
+    }
+
+    @Override
+    public Mono<? extends Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> acquired.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> (isTimeout(e) ? timedOut : failed).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    public void dispose() {
+        pool.dispose();
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        return e instanceof R2dbcTimeoutException || e instanceof TimeoutException;
+    }
+
+    private static Timer timer(String name, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.LikeResult;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleLikeRepositoryImpl implements ArticleLikeRepository {
+    // Concurrent toggles of one article spread over this many rows
+    private static final int SHARDS = 16;
+
+    private final DatabaseClient databaseClient;
+
+    // Likes are counted in article_like_deltas, in the same statement as the like row so that the count
+    // never drifts from article_likes. Each toggle lands on a random shard row and never locks the article
+    // row; foldCounts() later moves the shards into articles.likes. The change is announced on the
+    // article_likes channel, delivered on commit, so every pod's ArticleLikeIndex applies it. A CTE that
+    // is not referenced is not run, hence the notified column.
+    @Override
+    public Mono<LikeResult> like(Long articleId, Long userId) {
+        return toggle("""
+                WITH changed AS (
+                    INSERT INTO article_likes (article_id, user_id) VALUES (:articleId, :userId)
+                    ON CONFLICT DO NOTHING
+                    RETURNING article_id
+                )""", 1, articleId, userId);
+    }
+
+    @Override
+    public Mono<LikeResult> unlike(Long articleId, Long userId) {
+        return toggle("""
+                WITH changed AS (
+                    DELETE FROM article_likes WHERE article_id = :articleId AND user_id = :userId
+                    RETURNING article_id
+                )""", -1, articleId, userId);
+    }
+
+    @Override
+    public Flux<Long> findUserIdsByArticleId(Long articleId) {
+        return databaseClient.sql("SELECT user_id FROM article_likes WHERE article_id = :articleId")
+                .bind("articleId", articleId)
+                .map((row, rowMetadata) -> row.get("user_id", Long.class))
+                .all();
+    }
+
+    // Deltas of all shards folded into articles.likes in one statement, per article. Folds from several
+    // pods could lock the same rows in different orders, so only the holder of the advisory lock folds.
+    @Override
+    public Mono<Map<Long, Long>> foldCounts() {
+        return databaseClient.sql("""
+                        WITH folded AS (
+                            DELETE FROM article_like_deltas
+                            WHERE pg_try_advisory_xact_lock(hashtext('article_like_deltas'))
+                            RETURNING article_id, delta
+                        ),
+                        totals AS (
+                            SELECT article_id, SUM(delta) AS delta FROM folded GROUP BY article_id
+                        )
+                        UPDATE articles a SET likes = a.likes + t.delta
+                        FROM totals t WHERE a.id = t.article_id AND t.delta <> 0
+                        RETURNING a.id, t.delta""")
+                .map((row, rowMetadata) -> Map.entry(row.get("id", Long.class), row.get("delta", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    // The count reads the shards as of the statement's snapshot, which does not include its own change
+    private Mono<LikeResult> toggle(String changed, int delta, Long articleId, Long userId) {
+        return databaseClient.sql(changed + """
+                        ,
+                        counted AS (
+                            INSERT INTO article_like_deltas (article_id, shard, delta)
+                            SELECT article_id, :shard, :delta FROM changed
+                            ON CONFLICT (article_id, shard) DO UPDATE SET delta = article_like_deltas.delta + EXCLUDED.delta
+                            RETURNING article_id
+                        ),
+                        notified AS (
+                            SELECT pg_notify('article_likes', concat(:articleId, ',', :userId, ',', CASE WHEN :delta > 0 THEN 1 ELSE 0 END))
+                            FROM changed
+                        )
+                        SELECT a.id,
+                               (a.likes + COALESCE((SELECT SUM(d.delta) FROM article_like_deltas d WHERE d.article_id = a.id), 0)
+                                   + :delta * (SELECT COUNT(*) FROM counted))::int AS likes,
+                               (SELECT COUNT(*) FROM changed) AS changed,
+                               (SELECT COUNT(*) FROM notified) AS notified
+                        FROM articles a WHERE a.id = :articleId""")
+                .bind("articleId", articleId)
+                .bind("userId", userId)
+                .bind("shard", ThreadLocalRandom.current().nextInt(SHARDS))
+                .bind("delta", delta)
+                .map((row, rowMetadata) -> LikeResult.builder()
+                        .articleId(row.get("id", Long.class))
+                        .likes(row.get("likes", Integer.class))
+                        .changed(row.get("changed", Long.class) > 0)
+                        .build())
+                .one();
+    }
+}
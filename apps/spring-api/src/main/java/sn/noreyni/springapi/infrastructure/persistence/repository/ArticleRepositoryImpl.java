@@ -1,53 +1,214 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
+import sn.noreyni.springapi.domain.model.ArticleSearchHit;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.CountRepair;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.model.SearchCursor;
+import sn.noreyni.springapi.domain.model.Tag;
 import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
 import sn.noreyni.springapi.infrastructure.persistence.entity.ArticleEntity;
+import sn.noreyni.springapi.infrastructure.persistence.entity.ArticleSummaryEntity;
 import sn.noreyni.springapi.infrastructure.persistence.entity.TagEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static sn.noreyni.springapi.infrastructure.persistence.repository.R2dbcArticleRepository.SUMMARY_COLUMNS;
+
 @Repository
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepository {
+    private static final String ARTICLE_COLUMNS = "id, title, content, excerpt, image_url, status, author_id, views, likes, created_at, updated_at";
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int EXPORT_BATCH_SIZE = 200;
+
     private final R2dbcArticleRepository r2dbcArticleRepository;
     private final R2dbcTagRepository r2dbcTagRepository;
     private final org.springframework.r2dbc.core.DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+    private final TransactionalOperator transactionalOperator;
+    private final ArticleCache articleCache;
 
     @Override
     public Mono<Article> findById(Long id) {
-        return r2dbcArticleRepository.findById(id)
+        return articleCache.article(id, key -> r2dbcArticleRepository.findById(key)
                 .flatMap(this::loadTags)
-                .map(this::toDomain);
+                .map(this::toDomain));
     }
 
     @Override
-    public Flux<Article> findAll(Pageable pageable) {
-        return r2dbcArticleRepository.findAllBy(pageable)
-                .flatMap(this::loadTags)
-                .map(this::toDomain);
+    public Mono<Boolean> existsById(Long id) {
+        return r2dbcArticleRepository.existsById(id);
     }
 
     @Override
-    public Flux<Article> findAllByAuthorId(Long authorId, Pageable pageable) {
-        return r2dbcArticleRepository.findAllByAuthorId(authorId, pageable)
-                .flatMap(this::loadTags)
-                .map(this::toDomain);
+    public Flux<ArticleSummary> findAll(Pageable pageable) {
+        return r2dbcArticleRepository.findSummariesBy(WindowedPages.newestFirst(pageable)).map(this::toSummary);
     }
 
-    private Mono<ArticleEntityWithTags> loadTags(ArticleEntity entity) {
-        return databaseClient.sql("SELECT t.* FROM tags t INNER JOIN article_tags at ON t.id = at.tag_id WHERE at.article_id = :articleId")
-                .bind("articleId", entity.getId())
-                .map((row, rowMetadata) -> TagEntity.builder()
-                        .id(row.get("id", Long.class))
-                        .name(row.get("name", String.class))
+    @Override
+    public Flux<ArticleSummary> findAllByAuthorId(Long authorId, Pageable pageable) {
+        return r2dbcArticleRepository.findSummariesByAuthorId(authorId, WindowedPages.newestFirst(pageable)).map(this::toSummary);
+    }
+
+    @Override
+    public Mono<Page<ArticleSummary>> findPage(Pageable pageable) {
+        return WindowedPages.fetch(
+                        databaseClient.sql("SELECT " + SUMMARY_COLUMNS + ", " + WindowedPages.TOTAL_COUNT + " FROM articles ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset"),
+                        pageable, this::readSummary, this::count)
+                .map(page -> page.map(this::toSummary));
+    }
+
+    @Override
+    public Mono<Page<ArticleSummary>> findPageByAuthorId(Long authorId, Pageable pageable) {
+        return WindowedPages.fetch(
+                        databaseClient.sql("SELECT " + SUMMARY_COLUMNS + ", " + WindowedPages.TOTAL_COUNT + " FROM articles WHERE author_id = :authorId ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
+                                .bind("authorId", authorId),
+                        pageable, this::readSummary, () -> countByAuthorId(authorId))
+                .map(page -> page.map(this::toSummary));
+    }
+
+    @Override
+    public Flux<ArticleSummary> findAllByCursor(Cursor cursor, int limit) {
+        return KeysetPagination.seek(cursor,
+                        () -> r2dbcArticleRepository.findLatest(limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findOlderThan(createdAt, id, limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findNewerThan(createdAt, id, limit))
+                .map(this::toSummary);
+    }
+
+    @Override
+    public Flux<ArticleSummary> findAllByAuthorIdAndCursor(Long authorId, Cursor cursor, int limit) {
+        return KeysetPagination.seek(cursor,
+                        () -> r2dbcArticleRepository.findLatestByAuthorId(authorId, limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findOlderThanByAuthorId(authorId, createdAt, id, limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findNewerThanByAuthorId(authorId, createdAt, id, limit))
+                .map(this::toSummary);
+    }
+
+    @Override
+    public Flux<ArticleSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE id = ANY(:ids)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .map(this::readSummary)
+                .all()
+                .map(this::toSummary);
+    }
+
+    @Override
+    public Flux<Article> streamAll() {
+        // Rows are pulled from a server-side cursor as downstream demand arrives; tags are
+        // resolved one batch at a time so memory stays bounded whatever the table size
+        return databaseClient.sql("SELECT " + ARTICLE_COLUMNS + " FROM articles ORDER BY id")
+                .filter(statement -> statement.fetchSize(EXPORT_FETCH_SIZE))
+                .map(this::readEntity)
+                .all()
+                .buffer(EXPORT_BATCH_SIZE)
+                .concatMap(batch -> loadTags(batch.stream().map(ArticleEntity::getId).toList())
+                        .flatMapIterable(tagsByArticle -> batch.stream()
+                                .map(entity -> new ArticleEntityWithTags(entity,
+                                        tagsByArticle.getOrDefault(entity.getId(), List.of())))
+                                .map(this::toDomain)
+                                .toList()), 1);
+    }
+
+    private ArticleEntity readEntity(Row row, RowMetadata metadata) {
+        return r2dbcConverter.read(ArticleEntity.class, row, metadata);
+    }
+
+    @Override
+    public Flux<ArticleSummary> findAllByTagAndCursor(String tag, Cursor cursor, int limit) {
+        // Ordered by id only, which follows creation order and is what the (tag_id, article_id) index yields
+        return KeysetPagination.seek(cursor,
+                        () -> r2dbcArticleRepository.findLatestByTag(tag, limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findOlderThanByTag(tag, id, limit),
+                        (createdAt, id) -> r2dbcArticleRepository.findNewerThanByTag(tag, id, limit))
+                .map(this::toSummary);
+    }
+
+    @Override
+    public Flux<ArticleSearchHit> search(ArticleSearchCriteria criteria, SearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT " + SUMMARY_COLUMNS + ", ts_rank_cd(search_vector, query) AS rank"
+                + " FROM articles, websearch_to_tsquery('simple', :query) AS query WHERE search_vector @@ query");
+        if (criteria.getStatus() != null) {
+            sql.append(" AND status = :status");
+        }
+        if (criteria.getTag() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM article_tags at INNER JOIN tags t ON t.id = at.tag_id WHERE at.article_id = articles.id AND t.name = :tag)");
+        }
+        sql.append(") ranked");
+        if (after != null) {
+            sql.append(" WHERE (rank, id) < (:rank, :id)");
+        }
+        sql.append(" ORDER BY rank DESC, id DESC LIMIT :limit");
+
+        var spec = databaseClient.sql(sql.toString())
+                .bind("query", criteria.getQuery())
+                .bind("limit", limit);
+        if (criteria.getStatus() != null) {
+            spec = spec.bind("status", criteria.getStatus().name());
+        }
+        if (criteria.getTag() != null) {
+            spec = spec.bind("tag", criteria.getTag());
+        }
+        if (after != null) {
+            spec = spec.bind("rank", after.getRank()).bind("id", after.getId());
+        }
+        return spec.map((row, metadata) -> ArticleSearchHit.builder()
+                        .article(toSummary(readSummary(row, metadata)))
+                        .rank(row.get("rank", Float.class))
                         .build())
+                .all();
+    }
+
+    private ArticleSummaryEntity readSummary(Row row, RowMetadata metadata) {
+        return r2dbcConverter.read(ArticleSummaryEntity.class, row, metadata);
+    }
+
+    private Mono<ArticleEntityWithTags> loadTags(ArticleEntity entity) {
+        return loadTags(List.of(entity.getId()))
+                .map(tagsByArticle -> new ArticleEntityWithTags(entity,
+                        tagsByArticle.getOrDefault(entity.getId(), List.of())));
+    }
+
+    private Mono<Map<Long, List<TagEntity>>> loadTags(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql("SELECT at.article_id, t.id, t.name FROM tags t INNER JOIN article_tags at ON t.id = at.tag_id WHERE at.article_id = ANY(:articleIds)")
+                .bind("articleIds", articleIds.toArray(new Long[0]))
+                .map((row, rowMetadata) -> Map.entry(
+                        row.get("article_id", Long.class),
+                        TagEntity.builder()
+                                .id(row.get("id", Long.class))
+                                .name(row.get("name", String.class))
+                                .build()))
                 .all()
-                .collectList()
-                .map(tags -> new ArticleEntityWithTags(entity, tags));
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
     }
 
     @Override
@@ -60,60 +221,262 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         return r2dbcArticleRepository.countByAuthorId(authorId);
     }
 
+    @Override
+    public Mono<Long> estimateCount() {
+        return PlannerEstimates.rowCount(databaseClient, "articles");
+    }
+
     @Override
     public Mono<Article> save(Article article) {
-        return r2dbcArticleRepository.save(toEntity(article))
+        boolean isNew = article.getId() == null;
+        return transactionalOperator.transactional(r2dbcArticleRepository.save(toEntity(article))
                 .flatMap(savedEntity -> {
                     if (article.getTags() == null || article.getTags().isEmpty()) {
                         // If we are updating an existing article, we might want to keep existing tags if they are not provided, 
                         // but usually save() means replace. For now, let's assume we handle tags if provided.
                         return loadTags(savedEntity);
                     }
-                    return databaseClient.sql("DELETE FROM article_tags WHERE article_id = :aid")
-                            .bind("aid", savedEntity.getId())
-                            .then()
-                            .thenMany(Flux.fromIterable(article.getTags()))
-                            .flatMap(tag -> databaseClient.sql("INSERT INTO article_tags (article_id, tag_id) VALUES (:aid, :tid) ON CONFLICT DO NOTHING")
-                                    .bind("aid", savedEntity.getId())
-                                    .bind("tid", tag.getId())
-                                    .fetch().rowsUpdated())
-                            .then(loadTags(savedEntity));
+                    return syncTags(savedEntity.getId(), article.getTags(), isNew)
+                            .map(tags -> new ArticleEntityWithTags(savedEntity, tags));
                 })
-                .map(this::toDomain);
+                .map(this::toDomain))
+                // Evicted after commit so that no replica reloads the old row; new articles are
+                // broadcast too so that cached list pages everywhere pick them up
+                .flatMap(saved -> articleCache.evict(saved.getId()).thenReturn(saved));
+    }
+
+    // Ids are drawn from the sequence up front so that the articles and their tag links each go out
+    // as a single UNNEST insert, whatever the batch size
+    @Override
+    public Mono<List<Long>> insertAll(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        Mono<List<Long>> inserted = databaseClient.sql("SELECT nextval(pg_get_serial_sequence('articles', 'id')) AS id FROM generate_series(1, :count)")
+                .bind("count", articles.size())
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .flatMap(ids -> insertRows(ids, articles)
+                        .then(insertTagLinks(ids, articles))
+                        .thenReturn(ids));
+        return transactionalOperator.transactional(inserted)
+                // One broadcast is enough to drop the cached list pages on every replica
+                .flatMap(ids -> articleCache.evict(ids.get(ids.size() - 1)).thenReturn(ids));
+    }
+
+    private Mono<Void> insertRows(List<Long> ids, List<Article> articles) {
+        int size = articles.size();
+        String[] titles = new String[size];
+        String[] contents = new String[size];
+        String[] excerpts = new String[size];
+        String[] imageUrls = new String[size];
+        String[] statuses = new String[size];
+        Long[] authorIds = new Long[size];
+        LocalDateTime[] createdAt = new LocalDateTime[size];
+        LocalDateTime[] updatedAt = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            Article article = articles.get(i);
+            titles[i] = article.getTitle();
+            contents[i] = article.getContent();
+            excerpts[i] = ArticleSummary.excerptOf(article.getContent());
+            imageUrls[i] = article.getImageUrl();
+            statuses[i] = article.getStatus().name();
+            authorIds[i] = article.getAuthorId();
+            createdAt[i] = article.getCreatedAt();
+            updatedAt[i] = article.getUpdatedAt();
+        }
+        return databaseClient.sql("INSERT INTO articles (id, title, content, excerpt, image_url, status, author_id, created_at, updated_at) "
+                        + "SELECT * FROM UNNEST(:ids, :titles, :contents, :excerpts, :imageUrls, :statuses, :authorIds, :createdAt, :updatedAt)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .bind("titles", titles)
+                .bind("contents", contents)
+                .bind("excerpts", excerpts)
+                .bind("imageUrls", imageUrls)
+                .bind("statuses", statuses)
+                .bind("authorIds", authorIds)
+                .bind("createdAt", createdAt)
+                .bind("updatedAt", updatedAt)
+                .then();
+    }
+
+    private Mono<Void> insertTagLinks(List<Long> ids, List<Article> articles) {
+        List<Long> articleIds = new ArrayList<>();
+        List<Long> tagIds = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            List<Tag> tags = articles.get(i).getTags();
+            if (tags == null) {
+                continue;
+            }
+            for (Tag tag : tags) {
+                articleIds.add(ids.get(i));
+                tagIds.add(tag.getId());
+            }
+        }
+        if (articleIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("WITH added AS (INSERT INTO article_tags (article_id, tag_id) SELECT * FROM UNNEST(:articleIds, :tagIds) ON CONFLICT DO NOTHING RETURNING tag_id) "
+                        + "UPDATE tags t SET article_count = t.article_count + a.total FROM (SELECT tag_id, COUNT(*) AS total FROM added GROUP BY tag_id) a WHERE t.id = a.tag_id")
+                .bind("articleIds", articleIds.toArray(new Long[0]))
+                .bind("tagIds", tagIds.toArray(new Long[0]))
+                .then();
+    }
+
+    // Applies only the difference between the stored and the desired tag set: one multi-row insert
+    // for added tags, one targeted delete for removed ones, nothing at all when the set is unchanged.
+    private Mono<List<TagEntity>> syncTags(Long articleId, List<Tag> desired, boolean isNew) {
+        Map<Long, Tag> desiredById = desired.stream()
+                .collect(Collectors.toMap(Tag::getId, tag -> tag, (first, duplicate) -> first, LinkedHashMap::new));
+        // Tags already carrying their name do not need to be read back after the sync
+        Mono<List<TagEntity>> result = desiredById.values().stream().allMatch(tag -> tag.getName() != null)
+                ? Mono.just(desiredById.values().stream()
+                        .map(tag -> TagEntity.builder().id(tag.getId()).name(tag.getName()).build())
+                        .toList())
+                : loadTags(List.of(articleId)).map(tags -> tags.getOrDefault(articleId, List.of()));
+        Mono<Set<Long>> current = isNew ? Mono.just(Set.of()) : loadTagIds(articleId);
+        return current.flatMap(existing -> {
+            List<Long> added = desiredById.keySet().stream().filter(id -> !existing.contains(id)).toList();
+            List<Long> removed = existing.stream().filter(id -> !desiredById.containsKey(id)).toList();
+            Mono<Void> bumpVersion = added.isEmpty() && removed.isEmpty() ? Mono.empty()
+                    : databaseClient.sql("UPDATE articles SET content_version = content_version + 1 WHERE id = :articleId")
+                            .bind("articleId", articleId)
+                            .then();
+            return removeTags(articleId, removed)
+                    .then(addTags(articleId, added))
+                    .then(bumpVersion)
+                    .then(result);
+        });
+    }
+
+    private Mono<Set<Long>> loadTagIds(Long articleId) {
+        return databaseClient.sql("SELECT tag_id FROM article_tags WHERE article_id = :articleId")
+                .bind("articleId", articleId)
+                .map((row, rowMetadata) -> row.get("tag_id", Long.class))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    private Mono<Void> addTags(Long articleId, List<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return Mono.empty();
+        }
+        // Only rows actually inserted bump the per-tag counts
+        return databaseClient.sql("WITH added AS (INSERT INTO article_tags (article_id, tag_id) SELECT :articleId, UNNEST(:tagIds) ON CONFLICT DO NOTHING RETURNING tag_id) "
+                        + "UPDATE tags SET article_count = article_count + 1 WHERE id IN (SELECT tag_id FROM added)")
+                .bind("articleId", articleId)
+                .bind("tagIds", tagIds.toArray(new Long[0]))
+                .then();
+    }
+
+    private Mono<Void> removeTags(Long articleId, List<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("WITH removed AS (DELETE FROM article_tags WHERE article_id = :articleId AND tag_id = ANY(:tagIds) RETURNING tag_id) "
+                        + "UPDATE tags SET article_count = article_count - 1 WHERE id IN (SELECT tag_id FROM removed)")
+                .bind("articleId", articleId)
+                .bind("tagIds", tagIds.toArray(new Long[0]))
+                .then();
     }
 
     @Override
     public Mono<Void> deleteById(Long id) {
-        return r2dbcArticleRepository.deleteById(id);
+        // The cascade would drop the tag links without touching the counts, so they go first
+        return transactionalOperator.transactional(databaseClient.sql("WITH removed AS (DELETE FROM article_tags WHERE article_id = :articleId RETURNING tag_id) "
+                                + "UPDATE tags SET article_count = article_count - 1 WHERE id IN (SELECT tag_id FROM removed)")
+                        .bind("articleId", id)
+                        .then()
+                        .then(r2dbcArticleRepository.deleteById(id)))
+                .then(Mono.defer(() -> articleCache.evict(id)));
+    }
+
+    @Override
+    public Mono<Void> incrementViews(Map<Long, Long> deltas) {
+        return incrementCounter("views", deltas);
+    }
+
+    @Override
+    public Mono<CountRepair> repairCommentCounts(Long afterId, int batchSize) {
+        return databaseClient.sql("WITH batch AS (SELECT id FROM articles WHERE id > :afterId ORDER BY id LIMIT :batchSize), "
+                        + "actual AS (SELECT b.id, COUNT(c.id) AS total FROM batch b LEFT JOIN comments c ON c.article_id = b.id GROUP BY b.id), "
+                        + "repaired AS (UPDATE articles a SET comment_count = actual.total FROM actual WHERE a.id = actual.id AND a.comment_count <> actual.total RETURNING a.id) "
+                        + "SELECT (SELECT MAX(id) FROM batch) AS last_id, (SELECT COUNT(*) FROM repaired) AS repaired")
+                .bind("afterId", afterId)
+                .bind("batchSize", batchSize)
+                .map((row, rowMetadata) -> CountRepair.builder()
+                        .lastId(row.get("last_id", Long.class))
+                        .repaired(row.get("repaired", Long.class))
+                        .build())
+                .one();
+    }
+
+    // Applies all deltas in one statement; the column name is never user input
+    private Mono<Void> incrementCounter(String column, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        Long[] ids = new Long[deltas.size()];
+        Long[] values = new Long[deltas.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            ids[i] = delta.getKey();
+            values[i++] = delta.getValue();
+        }
+        return databaseClient.sql("UPDATE articles AS a SET " + column + " = a." + column + " + d.delta FROM UNNEST(:ids, :deltas) AS d(id, delta) WHERE a.id = d.id")
+                .bind("ids", ids)
+                .bind("deltas", values)
+                .then();
     }
 
-    private Article toDomain(ArticleEntityWithTags entityWithTags) {
+    // Package-private for ArticleRepositoryImplBenchmark
+    Article toDomain(ArticleEntityWithTags entityWithTags) {
         ArticleEntity entity = entityWithTags.entity;
         return Article.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
                 .content(entity.getContent())
+                .excerpt(entity.getExcerpt())
                 .imageUrl(entity.getImageUrl())
                 .status(entity.getStatus())
                 .authorId(entity.getAuthorId())
                 .views(entity.getViews())
                 .likes(entity.getLikes())
+                .commentCount(entity.getCommentCount())
+                .contentVersion(entity.getContentVersion())
                 .tags(entityWithTags.tags.stream()
-                        .map(t -> sn.noreyni.springapi.domain.model.Tag.builder()
+                        .map(t -> Tag.builder()
                                 .id(t.getId())
                                 .name(t.getName())
                                 .build())
-                        .collect(java.util.stream.Collectors.toList()))
+                        .collect(Collectors.toList()))
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    private ArticleSummary toSummary(ArticleSummaryEntity entity) {
+        return ArticleSummary.builder()
+                .id(entity.getId())
+                .title(entity.getTitle())
+                .excerpt(entity.getExcerpt())
+                .imageUrl(entity.getImageUrl())
+                .status(entity.getStatus())
+                .authorId(entity.getAuthorId())
+                .views(entity.getViews())
+                .likes(entity.getLikes())
+                .commentCount(entity.getCommentCount())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
 
-    private ArticleEntity toEntity(Article domain) {
+    ArticleEntity toEntity(Article domain) {
         return ArticleEntity.builder()
                 .id(domain.getId())
                 .title(domain.getTitle())
                 .content(domain.getContent())
+                .excerpt(ArticleSummary.excerptOf(domain.getContent()))
                 .imageUrl(domain.getImageUrl())
                 .status(domain.getStatus())
                 .authorId(domain.getAuthorId())
@@ -124,11 +487,11 @@ public class ArticleRepositoryImpl implements ArticleRepository {
                 .build();
     }
 
-    private static class ArticleEntityWithTags {
+    static class ArticleEntityWithTags {
         final ArticleEntity entity;
-        final java.util.List<TagEntity> tags;
+        final List<TagEntity> tags;
 
-        ArticleEntityWithTags(ArticleEntity entity, java.util.List<TagEntity> tags) {
+        ArticleEntityWithTags(ArticleEntity entity, List<TagEntity> tags) {
             this.entity = entity;
             this.tags = tags;
         }
@@ -1,8 +1,15 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.model.Cursor;
 import sn.noreyni.springapi.domain.repository.CommentRepository;
 import sn.noreyni.springapi.infrastructure.persistence.entity.CommentEntity;
 import reactor.core.publisher.Flux;
@@ -12,6 +19,8 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepository {
     private final R2dbcCommentRepository r2dbcCommentRepository;
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
 
     @Override
     public Mono<Comment> findById(Long id) {
@@ -19,8 +28,26 @@ public class CommentRepositoryImpl implements CommentRepository {
     }
 
     @Override
-    public Flux<Comment> findByArticleId(Long articleId, org.springframework.data.domain.Pageable pageable) {
-        return r2dbcCommentRepository.findAllByArticleId(articleId, pageable).map(this::toDomain);
+    public Flux<Comment> findByArticleId(Long articleId, Pageable pageable) {
+        return r2dbcCommentRepository.findAllByArticleId(articleId, WindowedPages.newestFirst(pageable)).map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Page<Comment>> findPageByArticleId(Long articleId, Pageable pageable) {
+        return WindowedPages.fetch(
+                        databaseClient.sql("SELECT c.*, " + WindowedPages.TOTAL_COUNT + " FROM comments c WHERE c.article_id = :articleId ORDER BY c.created_at DESC, c.id DESC LIMIT :limit OFFSET :offset")
+                                .bind("articleId", articleId),
+                        pageable, this::readEntity, () -> countByArticleId(articleId))
+                .map(page -> page.map(this::toDomain));
+    }
+
+    @Override
+    public Flux<Comment> findByArticleIdAndCursor(Long articleId, Cursor cursor, int limit) {
+        return KeysetPagination.seek(cursor,
+                        () -> r2dbcCommentRepository.findLatestByArticleId(articleId, limit),
+                        (createdAt, id) -> r2dbcCommentRepository.findOlderThanByArticleId(articleId, createdAt, id, limit),
+                        (createdAt, id) -> r2dbcCommentRepository.findNewerThanByArticleId(articleId, createdAt, id, limit))
+                .map(this::toDomain);
     }
 
     @Override
@@ -30,12 +57,44 @@ public class CommentRepositoryImpl implements CommentRepository {
 
     @Override
     public Mono<Comment> save(Comment comment) {
-        return r2dbcCommentRepository.save(toEntity(comment)).map(this::toDomain);
+        if (comment.getId() != null) {
+            return r2dbcCommentRepository.save(toEntity(comment)).map(this::toDomain);
+        }
+        // The insert and the article's comment_count move together in one statement
+        return databaseClient.sql("WITH inserted AS (INSERT INTO comments (content, author_id, article_id, created_at) VALUES (:content, :authorId, :articleId, :createdAt) RETURNING *), "
+                        + "counted AS (UPDATE articles SET comment_count = comment_count + 1 WHERE id = (SELECT article_id FROM inserted)) "
+                        + "SELECT * FROM inserted")
+                .bind("content", comment.getContent())
+                .bind("authorId", comment.getAuthorId())
+                .bind("articleId", comment.getArticleId())
+                .bind("createdAt", comment.getCreatedAt())
+                .map(this::readEntity)
+                .one()
+                .map(this::toDomain);
     }
 
     @Override
     public Mono<Void> deleteById(Long id) {
-        return r2dbcCommentRepository.deleteById(id);
+        return databaseClient.sql("WITH deleted AS (DELETE FROM comments WHERE id = :id RETURNING article_id) "
+                        + "UPDATE articles SET comment_count = comment_count - 1 WHERE id IN (SELECT article_id FROM deleted)")
+                .bind("id", id)
+                .then();
+    }
+
+    // Deletes the comment only if it belongs to the author, returning its article id
+    @Override
+    public Mono<Long> deleteByIdAndAuthorId(Long id, Long authorId) {
+        return databaseClient.sql("WITH deleted AS (DELETE FROM comments WHERE id = :id AND author_id = :authorId RETURNING article_id), "
+                        + "counted AS (UPDATE articles SET comment_count = comment_count - 1 WHERE id IN (SELECT article_id FROM deleted)) "
+                        + "SELECT article_id FROM deleted")
+                .bind("id", id)
+                .bind("authorId", authorId)
+                .map((row, rowMetadata) -> row.get("article_id", Long.class))
+                .one();
+    }
+
+    private CommentEntity readEntity(Row row, RowMetadata metadata) {
+        return r2dbcConverter.read(CommentEntity.class, row, metadata);
     }
 
     private Comment toDomain(CommentEntity entity) {
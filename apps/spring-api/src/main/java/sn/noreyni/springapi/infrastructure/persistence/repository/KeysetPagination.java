@@ -0,0 +1,35 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import reactor.core.publisher.Flux;
+import sn.noreyni.springapi.domain.model.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    // "newer" queries seek upwards from the cursor in ascending order, so their rows are
+    // reversed to keep every page newest first.
+    static <T> Flux<T> seek(Cursor cursor,
+                            Supplier<Flux<T>> latest,
+                            BiFunction<LocalDateTime, Long, Flux<T>> olderThan,
+                            BiFunction<LocalDateTime, Long, Flux<T>> newerThan) {
+        if (cursor == null) {
+            return latest.get();
+        }
+        if (cursor.isBackward()) {
+            return newerThan.apply(cursor.getCreatedAt(), cursor.getId())
+                    .collectList()
+                    .flatMapIterable(rows -> {
+                        Collections.reverse(rows);
+                        return rows;
+                    });
+        }
+        return olderThan.apply(cursor.getCreatedAt(), cursor.getId());
+    }
+}
@@ -0,0 +1,19 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+final class PlannerEstimates {
+
+    private PlannerEstimates() {
+    }
+
+    // Row count as last estimated by VACUUM/ANALYZE; -1 when the table has never been analyzed
+    static Mono<Long> rowCount(DatabaseClient databaseClient, String table) {
+        return databaseClient.sql("SELECT reltuples::bigint AS estimate FROM pg_class WHERE oid = to_regclass(:table)")
+                .bind("table", table)
+                .map((row, rowMetadata) -> row.get("estimate", Long.class))
+                .one()
+                .defaultIfEmpty(-1L);
+    }
+}
@@ -1,13 +1,47 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import sn.noreyni.springapi.infrastructure.persistence.entity.ArticleEntity;
+import sn.noreyni.springapi.infrastructure.persistence.entity.ArticleSummaryEntity;
+
+import java.time.LocalDateTime;
 
 public interface R2dbcArticleRepository extends ReactiveCrudRepository<ArticleEntity, Long> {
-    Flux<ArticleEntity> findAllBy(Pageable pageable);
-    Flux<ArticleEntity> findAllByAuthorId(Long authorId, Pageable pageable);
+    String SUMMARY_COLUMNS = "id, title, excerpt, image_url, status, author_id, views, likes, comment_count, created_at, updated_at";
+
+    // Derived queries with a DTO return type select only the projected columns
+    Flux<ArticleSummaryEntity> findSummariesBy(Pageable pageable);
+    Flux<ArticleSummaryEntity> findSummariesByAuthorId(Long authorId, Pageable pageable);
     Mono<Long> countByAuthorId(Long authorId);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findLatest(int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE (created_at, id) < (:createdAt, :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findOlderThan(LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<ArticleSummaryEntity> findNewerThan(LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE author_id = :authorId ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findLatestByAuthorId(Long authorId, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE author_id = :authorId AND (created_at, id) < (:createdAt, :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findOlderThanByAuthorId(Long authorId, LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM articles WHERE author_id = :authorId AND (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<ArticleSummaryEntity> findNewerThanByAuthorId(Long authorId, LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM article_tags at INNER JOIN articles ON articles.id = at.article_id WHERE at.tag_id = (SELECT t.id FROM tags t WHERE t.name = :tag) ORDER BY at.article_id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findLatestByTag(String tag, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM article_tags at INNER JOIN articles ON articles.id = at.article_id WHERE at.tag_id = (SELECT t.id FROM tags t WHERE t.name = :tag) AND at.article_id < :id ORDER BY at.article_id DESC LIMIT :limit")
+    Flux<ArticleSummaryEntity> findOlderThanByTag(String tag, Long id, int limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM article_tags at INNER JOIN articles ON articles.id = at.article_id WHERE at.tag_id = (SELECT t.id FROM tags t WHERE t.name = :tag) AND at.article_id > :id ORDER BY at.article_id LIMIT :limit")
+    Flux<ArticleSummaryEntity> findNewerThanByTag(String tag, Long id, int limit);
 }
@@ -1,12 +1,24 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Mono;
 import sn.noreyni.springapi.infrastructure.persistence.entity.CommentEntity;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+
 public interface R2dbcCommentRepository extends ReactiveCrudRepository<CommentEntity, Long> {
     Flux<CommentEntity> findAllByArticleId(Long articleId, Pageable pageable);
     Mono<Long> countByArticleId(Long articleId);
+
+    @Query("SELECT * FROM comments WHERE article_id = :articleId ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<CommentEntity> findLatestByArticleId(Long articleId, int limit);
+
+    @Query("SELECT * FROM comments WHERE article_id = :articleId AND (created_at, id) < (:createdAt, :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<CommentEntity> findOlderThanByArticleId(Long articleId, LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT * FROM comments WHERE article_id = :articleId AND (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<CommentEntity> findNewerThanByArticleId(Long articleId, LocalDateTime createdAt, Long id, int limit);
 }
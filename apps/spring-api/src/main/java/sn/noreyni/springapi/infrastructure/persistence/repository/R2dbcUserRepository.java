@@ -1,13 +1,25 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import sn.noreyni.springapi.infrastructure.persistence.entity.UserEntity;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface R2dbcUserRepository extends ReactiveCrudRepository<UserEntity, Long> {
     Mono<UserEntity> findByEmail(String email);
     Mono<Boolean> existsByEmail(String email);
     Flux<UserEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT * FROM users ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<UserEntity> findLatest(int limit);
+
+    @Query("SELECT * FROM users WHERE (created_at, id) < (:createdAt, :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<UserEntity> findOlderThan(LocalDateTime createdAt, Long id, int limit);
+
+    @Query("SELECT * FROM users WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<UserEntity> findNewerThan(LocalDateTime createdAt, Long id, int limit);
 }
@@ -0,0 +1,61 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.TagCount;
+import sn.noreyni.springapi.domain.repository.TagRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepository {
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<TagCount> findMostUsed(int limit) {
+        return databaseClient.sql("SELECT id, name, article_count FROM tags WHERE article_count > 0 ORDER BY article_count DESC, name LIMIT :limit")
+                .bind("limit", limit)
+                .map((row, rowMetadata) -> TagCount.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .articleCount(row.get("article_count", Integer.class))
+                        .build())
+                .all();
+    }
+
+    @Override
+    public Mono<Map<String, Long>> resolveIds(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        // Rows inserted by this statement are not visible to its own SELECT, hence the union.
+        // Inserting in name order keeps concurrent imports from deadlocking on each other.
+        return databaseClient.sql("WITH input AS (SELECT DISTINCT UNNEST(:names) AS name), "
+                        + "inserted AS (INSERT INTO tags (name) SELECT name FROM input ORDER BY name ON CONFLICT (name) DO NOTHING RETURNING id, name) "
+                        + "SELECT id, name FROM inserted UNION ALL SELECT t.id, t.name FROM tags t JOIN input i ON i.name = t.name")
+                .bind("names", names.toArray(new String[0]))
+                .map((row, rowMetadata) -> Map.entry(row.get("name", String.class), row.get("id", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new)
+                .flatMap(ids -> {
+                    // A tag committed concurrently by another transaction is seen by neither branch
+                    List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+                    if (missing.isEmpty()) {
+                        return Mono.just(ids);
+                    }
+                    return databaseClient.sql("SELECT id, name FROM tags WHERE name = ANY(:names)")
+                            .bind("names", missing.toArray(new String[0]))
+                            .map((row, rowMetadata) -> Map.entry(row.get("name", String.class), row.get("id", Long.class)))
+                            .all()
+                            .doOnNext(entry -> ids.put(entry.getKey(), entry.getValue()))
+                            .then(Mono.just(ids));
+                });
+    }
+}
@@ -0,0 +1,61 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+import sn.noreyni.springapi.domain.repository.TrendingRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingRepositoryImpl implements TrendingRepository {
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Flux<TrendingScore> findSnapshot() {
+        return databaseClient.sql("SELECT article_id, score, scored_at FROM trending_snapshots")
+                .map((row, rowMetadata) -> TrendingScore.builder()
+                        .articleId(row.get("article_id", Long.class))
+                        .score(row.get("score", Double.class))
+                        .scoredAt(row.get("scored_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    // Every replica adds what it recorded since its last snapshot, so the stored score is the sum over
+    // all replicas. Stored and added scores are first decayed to the later of their two times.
+    @Override
+    public Mono<Void> mergeSnapshot(List<TrendingScore> scores, double halfLifeMillis, LocalDateTime staleBefore) {
+        Long[] ids = new Long[scores.size()];
+        Double[] values = new Double[scores.size()];
+        LocalDateTime[] scoredAt = new LocalDateTime[scores.size()];
+        for (int i = 0; i < scores.size(); i++) {
+            ids[i] = scores.get(i).getArticleId();
+            values[i] = scores.get(i).getScore();
+            scoredAt[i] = scores.get(i).getScoredAt();
+        }
+        Mono<Void> upsert = scores.isEmpty() ? Mono.empty() : databaseClient.sql("INSERT INTO trending_snapshots AS t (article_id, score, scored_at) "
+                        + "SELECT s.article_id, s.score, s.scored_at FROM UNNEST(:ids, :scores, :scoredAt) AS s(article_id, score, scored_at) "
+                        + "WHERE EXISTS (SELECT 1 FROM articles a WHERE a.id = s.article_id) "
+                        + "ON CONFLICT (article_id) DO UPDATE SET "
+                        + "score = t.score * power(2, -GREATEST(0, EXTRACT(EPOCH FROM EXCLUDED.scored_at - t.scored_at)::double precision) * 1000 / :halfLife) "
+                        + "+ EXCLUDED.score * power(2, -GREATEST(0, EXTRACT(EPOCH FROM t.scored_at - EXCLUDED.scored_at)::double precision) * 1000 / :halfLife), "
+                        + "scored_at = GREATEST(t.scored_at, EXCLUDED.scored_at)")
+                .bind("ids", ids)
+                .bind("scores", values)
+                .bind("scoredAt", scoredAt)
+                .bind("halfLife", halfLifeMillis)
+                .then();
+        Mono<Void> prune = databaseClient.sql("DELETE FROM trending_snapshots WHERE scored_at < :staleBefore")
+                .bind("staleBefore", staleBefore)
+                .then();
+        return transactionalOperator.transactional(upsert.then(prune));
+    }
+}
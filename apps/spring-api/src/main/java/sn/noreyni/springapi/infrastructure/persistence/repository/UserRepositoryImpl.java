@@ -1,24 +1,58 @@
 package sn.noreyni.springapi.infrastructure.persistence.repository;
 
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import sn.noreyni.springapi.domain.model.Cursor;
 import sn.noreyni.springapi.domain.model.User;
 import sn.noreyni.springapi.domain.repository.UserRepository;
 import sn.noreyni.springapi.infrastructure.persistence.entity.UserEntity;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final R2dbcUserRepository r2dbcUserRepository;
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
 
     @Override
     public Mono<User> findById(Long id) {
         return r2dbcUserRepository.findById(id).map(this::toDomain);
     }
 
+    @Override
+    public Flux<User> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT * FROM users WHERE id = ANY(:ids)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .map(this::readEntity)
+                .all()
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Flux<User> findAllByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT * FROM users WHERE email = ANY(:emails)")
+                .bind("emails", emails.toArray(new String[0]))
+                .map(this::readEntity)
+                .all()
+                .map(this::toDomain);
+    }
+
     @Override
     public Mono<User> findByEmail(String email) {
         return r2dbcUserRepository.findByEmail(email).map(this::toDomain);
@@ -36,7 +70,24 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public Flux<User> findAll(Pageable pageable) {
-        return r2dbcUserRepository.findAllBy(pageable).map(this::toDomain);
+        return r2dbcUserRepository.findAllBy(WindowedPages.newestFirst(pageable)).map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Page<User>> findPage(Pageable pageable) {
+        return WindowedPages.fetch(
+                        databaseClient.sql("SELECT u.*, " + WindowedPages.TOTAL_COUNT + " FROM users u ORDER BY u.created_at DESC, u.id DESC LIMIT :limit OFFSET :offset"),
+                        pageable, this::readEntity, this::count)
+                .map(page -> page.map(this::toDomain));
+    }
+
+    @Override
+    public Flux<User> findAllByCursor(Cursor cursor, int limit) {
+        return KeysetPagination.seek(cursor,
+                        () -> r2dbcUserRepository.findLatest(limit),
+                        (createdAt, id) -> r2dbcUserRepository.findOlderThan(createdAt, id, limit),
+                        (createdAt, id) -> r2dbcUserRepository.findNewerThan(createdAt, id, limit))
+                .map(this::toDomain);
     }
 
     @Override
@@ -44,11 +95,20 @@ public class UserRepositoryImpl implements UserRepository {
         return r2dbcUserRepository.count();
     }
 
+    @Override
+    public Mono<Long> estimateCount() {
+        return PlannerEstimates.rowCount(databaseClient, "users");
+    }
+
     @Override
     public Mono<Void> deleteById(Long id) {
         return r2dbcUserRepository.deleteById(id);
     }
 
+    private UserEntity readEntity(Row row, RowMetadata metadata) {
+        return r2dbcConverter.read(UserEntity.class, row, metadata);
+    }
+
     private User toDomain(UserEntity entity) {
         return User.builder()
                 .id(entity.getId())
@@ -0,0 +1,51 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+// Page queries select "COUNT(*) OVER() AS total_count" next to the rows, so the page and its total
+// come back in a single round trip. The separate count only runs when the page is past the end.
+final class WindowedPages {
+    static final String TOTAL_COUNT = "COUNT(*) OVER() AS total_count";
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private WindowedPages() {
+    }
+
+    static <E> Mono<Page<E>> fetch(DatabaseClient.GenericExecuteSpec spec,
+                                   Pageable pageable,
+                                   BiFunction<Row, RowMetadata, E> reader,
+                                   Supplier<Mono<Long>> countWhenPastEnd) {
+        return spec.bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map((row, metadata) -> Tuples.of(reader.apply(row, metadata), row.get("total_count", Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<E> content = rows.stream().map(Tuple2::getT1).toList();
+                    Mono<Long> total = rows.isEmpty() ? countWhenPastEnd.get() : Mono.just(rows.get(0).getT2());
+                    return total.map(count -> new PageImpl<>(content, pageable, count));
+                });
+    }
+
+    static Pageable newestFirst(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST);
+    }
+}
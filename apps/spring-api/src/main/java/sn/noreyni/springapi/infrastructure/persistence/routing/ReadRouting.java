@@ -0,0 +1,84 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// Sends read-only use cases to the replica when one is configured. A read stays on the primary while
+// the replica is further behind than the lag tolerance, and for a short window after the caller's
+// own write so that they always see what they just changed. The write time travels with the client
+// (see ReadYourWritesFilter), so the window holds whichever pod serves the next request.
+@Component
+public class ReadRouting {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+    static final String TARGET_KEY = ReadRouting.class.getName() + ".target";
+    static final String PINNED_KEY = ReadRouting.class.getName() + ".pinned";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration lagTolerance;
+    private final Duration pinAfterWrite;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReadRouting(ObjectProvider<ReplicaLagMonitor> lagMonitor,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.r2dbc.replica.lag-tolerance-ms:1000}") long lagToleranceMs,
+                       @Value("${app.r2dbc.replica.pin-after-write-ms:5000}") long pinAfterWriteMs) {
+        this.lagMonitor = lagMonitor.getIfAvailable();
+        this.lagTolerance = Duration.ofMillis(lagToleranceMs);
+        // A pin shorter than the tolerated lag could send the writer to a replica that has not caught up
+        this.pinAfterWrite = Duration.ofMillis(Math.max(pinAfterWriteMs, lagToleranceMs));
+        this.primaryReads = Counter.builder("db.reads").tag("target", PRIMARY).register(meterRegistry);
+        this.replicaReads = Counter.builder("db.reads").tag("target", REPLICA).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return lagMonitor != null;
+    }
+
+    public Duration pinAfterWrite() {
+        return pinAfterWrite;
+    }
+
+    // Whether a write made at the given time still keeps the caller on the primary. Timestamps from
+    // the future are only tolerated by one window, for clock skew between pods.
+    public boolean isPinned(long writtenAtMillis, long nowMillis) {
+        long age = nowMillis - writtenAtMillis;
+        return age < pinAfterWrite.toMillis() && age > -pinAfterWrite.toMillis();
+    }
+
+    public <T> Mono<T> readOnly(Mono<T> query) {
+        if (!isEnabled()) {
+            return query;
+        }
+        return target().flatMap(target -> query.contextWrite(context -> context.put(TARGET_KEY, target)));
+    }
+
+    public <T> Flux<T> readOnly(Flux<T> query) {
+        if (!isEnabled()) {
+            return query;
+        }
+        return target().flatMapMany(target -> query.contextWrite(context -> context.put(TARGET_KEY, target)));
+    }
+
+    private Mono<String> target() {
+        return Mono.deferContextual(context -> Mono.just(route(
+                lagMonitor.isWithin(lagTolerance) && !context.getOrDefault(PINNED_KEY, false))));
+    }
+
+    private String route(boolean replica) {
+        if (replica) {
+            replicaReads.increment();
+            return REPLICA;
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+}
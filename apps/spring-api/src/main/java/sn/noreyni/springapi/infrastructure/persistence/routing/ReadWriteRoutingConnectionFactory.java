@@ -0,0 +1,23 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// Picks the primary or the replica pool from the subscriber context set by ReadRouting.
+// Anything that did not ask for the replica, transactions included, runs on the primary.
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    public ReadWriteRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        setTargetConnectionFactories(Map.of(ReadRouting.PRIMARY, primary, ReadRouting.REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(context.getOrDefault(ReadRouting.TARGET_KEY, ReadRouting.PRIMARY)));
+    }
+}
@@ -0,0 +1,61 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+// Pins the caller's reads to the primary during any request that may write, and hands the client a
+// short-lived cookie with the time of that write so its next reads stay on the primary on any pod
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesFilter implements WebFilter {
+    static final String COOKIE = "rw_after";
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final ReadRouting readRouting;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!readRouting.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        if (SAFE_METHODS.contains(exchange.getRequest().getMethod())) {
+            return wroteRecently(exchange) ? pinned(chain.filter(exchange)) : chain.filter(exchange);
+        }
+        // Stamped when the response commits, after the write has committed, so the window counts from there
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> exchange.getResponse().addCookie(
+                ResponseCookie.from(COOKIE, String.valueOf(System.currentTimeMillis()))
+                        .path("/")
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        // Rounded up, the timestamp rather than the cookie's lifetime decides the pin
+                        .maxAge(Duration.ofSeconds(readRouting.pinAfterWrite().toSeconds() + 1))
+                        .build())));
+        return pinned(chain.filter(exchange));
+    }
+
+    private boolean wroteRecently(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return readRouting.isPinned(Long.parseLong(cookie.getValue()), System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Mono<Void> pinned(Mono<Void> request) {
+        return request.contextWrite(context -> context.put(ReadRouting.PINNED_KEY, true));
+    }
+}
@@ -0,0 +1,65 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Polls how far the replica is behind the primary. Until the first successful check, and whenever
+// the replica cannot be reached, the lag is unknown and reads stay on the primary.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(2);
+    private static final long UNKNOWN = -1;
+
+    // Zero when the replica has replayed everything it received, so that an idle primary does not
+    // look like lag
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+                   END AS lag_ms
+            """;
+
+    private final DatabaseClient replicaClient;
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(@Qualifier("replicaConnectionFactory") ConnectionFactory replicaConnectionFactory,
+                             MeterRegistry meterRegistry) {
+        this.replicaClient = DatabaseClient.create(replicaConnectionFactory);
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagMillis == UNKNOWN ? Double.NaN : monitor.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isWithin(Duration tolerance) {
+        long lag = lagMillis;
+        return lag != UNKNOWN && lag <= tolerance.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.r2dbc.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try {
+            Long lag = replicaClient.sql(LAG_QUERY)
+                    .map(row -> row.get("lag_ms", Long.class))
+                    .one()
+                    .block(CHECK_TIMEOUT);
+            lagMillis = lag != null ? lag : UNKNOWN;
+        } catch (RuntimeException e) {
+            if (lagMillis != UNKNOWN) {
+                log.warn("Replica lag check failed, routing reads to the primary", e);
+            }
+            lagMillis = UNKNOWN;
+        }
+    }
+}
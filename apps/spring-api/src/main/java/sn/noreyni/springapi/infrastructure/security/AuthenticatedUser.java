@@ -0,0 +1,39 @@
+package sn.noreyni.springapi.infrastructure.security;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import sn.noreyni.springapi.domain.model.User;
+
+import java.util.List;
+
+// Principal of a JWT-authenticated request, built from the verified claims. Carries the user id and
+// names so use cases don't look the user up again. Holds no password, login goes through UserDetails.
+@Getter
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String email;
+    private final String role;
+    private final String username;
+    private final String displayName;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, String role, String username, String displayName) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.username = username;
+        this.displayName = displayName;
+        this.authorities = List.of(new SimpleGrantedAuthority(role));
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getUsername(), user.displayName());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,6 @@
 package sn.noreyni.springapi.infrastructure.security;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,21 +25,22 @@ public class JwtAuthenticationFilter implements WebFilter {
             return chain.filter(exchange);
         }
 
-        String jwt = authHeader.substring(7);
-        String userEmail = jwtService.extractUsername(jwt);
-
-        if (userEmail != null) {
-            return userDetailsService.findByUsername(userEmail)
-                    .flatMap(userDetails -> {
-                        if (jwtService.isTokenValid(jwt, userDetails)) {
-                            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                    userDetails, null, userDetails.getAuthorities());
-                            return chain.filter(exchange)
-                                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
-                        }
-                        return chain.filter(exchange);
-                    });
+        // Verified once, the subject is only trusted from a valid token
+        Claims claims = jwtService.verify(authHeader.substring(7)).orElse(null);
+        if (claims == null) {
+            return chain.filter(exchange);
         }
-        return chain.filter(exchange);
+
+        AuthenticatedUser fromToken = jwtService.toPrincipal(claims);
+        // Older tokens without the id and role claims still need the user row
+        Mono<AuthenticatedUser> principal = fromToken != null
+                ? Mono.just(fromToken)
+                : userDetailsService.findAuthenticatedUser(claims.getSubject());
+        return principal.flatMap(user -> {
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    user, null, user.getAuthorities());
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+        });
     }
 }
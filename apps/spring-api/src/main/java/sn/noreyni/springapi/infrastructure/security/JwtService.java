@@ -1,34 +1,102 @@
 package sn.noreyni.springapi.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import sn.noreyni.springapi.domain.model.User;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String USERNAME_CLAIM = "username";
+    static final String DISPLAY_NAME_CLAIM = "name";
 
-    @Value("${app.jwt.secret}")
-    private String secret;
+    private final Long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    // Claims of tokens whose signature was already checked, keyed by the token's SHA-256 and
+    // dropped when the token expires. Clients reuse one token for many requests.
+    private final Cache<String, Claims> verified;
 
-    @Value("${app.jwt.expiration}")
-    private Long expiration;
+    public JwtService(MeterRegistry meterRegistry,
+                      @Value("${app.jwt.secret}") String secret,
+                      @Value("${app.jwt.expiration}") Long expiration,
+                      @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verified_jwts");
+    }
+
+    // Claims of a correctly signed, unexpired token, or empty; the signature is checked once per token
+    public Optional<Claims> verify(String token) {
+        String hash = sha256(token);
+        Claims claims = verified.getIfPresent(hash);
+        if (claims == null) {
+            try {
+                claims = parser.parseSignedClaims(token).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            verified.put(hash, claims);
+        }
+        return isExpired(claims) ? Optional.empty() : Optional.of(claims);
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return verify(token).map(claimsResolver).orElse(null);
+    }
+
+    // Principal straight from the claims, or null for tokens issued before they carried the user's claims
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        String username = claims.get(USERNAME_CLAIM, String.class);
+        String displayName = claims.get(DISPLAY_NAME_CLAIM, String.class);
+        if (userId == null || role == null || username == null || displayName == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), role, username, displayName);
+    }
+
+    public String generateToken(User user) {
+        return generateToken(Map.of(USER_ID_CLAIM, user.getId(), ROLE_CLAIM, user.getRole(),
+                USERNAME_CLAIM, user.getUsername(), DISPLAY_NAME_CLAIM, user.displayName()), user.getEmail());
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -36,38 +104,54 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        return generateToken(extraClaims, userDetails.getUsername());
+    }
+
+    private String generateToken(Map<String, Object> extraClaims, String subject) {
         return Jwts.builder()
                 .claims(extraClaims)
-                .subject(userDetails.getUsername())
+                .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return verify(token)
+                .map(claims -> userDetails.getUsername().equals(claims.getSubject()))
+                .orElse(false);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    // Entries live until the token's own exp, reads and replacements do not extend them
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String hash, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        @Override
+        public long expireAfterRead(String hash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
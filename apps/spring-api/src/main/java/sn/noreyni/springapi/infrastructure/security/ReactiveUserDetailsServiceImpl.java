@@ -21,4 +21,9 @@ public class ReactiveUserDetailsServiceImpl implements ReactiveUserDetailsServic
                         .authorities(user.getRole())
                         .build());
     }
+
+    // Principal for tokens issued before they carried the user's claims
+    public Mono<AuthenticatedUser> findAuthenticatedUser(String email) {
+        return userRepository.findByEmail(email).map(AuthenticatedUser::of);
+    }
 }
@@ -0,0 +1,17 @@
+package sn.noreyni.springapi.infrastructure.trending;
+
+public enum TrendingSignal {
+    VIEW(1),
+    LIKE(5),
+    COMMENT(10);
+
+    private final double weight;
+
+    TrendingSignal(double weight) {
+        this.weight = weight;
+    }
+
+    public double weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,214 @@
+package sn.noreyni.springapi.infrastructure.trending;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+import sn.noreyni.springapi.domain.repository.TrendingRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+// Exponentially decayed popularity per article, updated in O(1) on every signal. Instead of decaying
+// every score over time, each signal is weighted by 2^((t - epoch) / halfLife): all scores share the
+// same growth factor, so their order never changes and the current value is sum / 2^((now - epoch) / halfLife).
+// The top K is recomputed on a schedule and read without locking. Snapshots persist only what this
+// replica recorded since its previous snapshot and are summed in the database, so the stored scores
+// cover every replica. Unsaved signals are drained by swapping in a fresh map, without a lock; a signal
+// that still lands in the swapped-out map is picked up by the next snapshot.
+@Component
+@Slf4j
+public class TrendingTracker {
+    private static final Duration SNAPSHOT_TIMEOUT = Duration.ofSeconds(30);
+    // Scores below this (a single view after ~4 half-lives) are no longer tracked
+    private static final double MIN_SCORE = 0.05;
+    // Rebase well before 2^x gets anywhere near the double range
+    private static final double REBASE_AFTER_HALF_LIVES = 64;
+
+    private final TrendingRepository trendingRepository;
+    private final double halfLifeMillis;
+    private final int topK;
+    private final int maxTracked;
+    private volatile Scores scores = new Scores(System.currentTimeMillis());
+    // Signals recorded here and not yet snapshotted, with their own epoch that restarts on every drain
+    private volatile Scores unsaved = new Scores(System.currentTimeMillis());
+    // Swapped out by the previous snapshot, guarded by snapshotLock
+    private Scores retired = new Scores(System.currentTimeMillis());
+    private final Object snapshotLock = new Object();
+    private volatile List<TrendingScore> top = List.of();
+
+    public TrendingTracker(TrendingRepository trendingRepository,
+                           @Value("${app.trending.half-life-hours:24}") double halfLifeHours,
+                           @Value("${app.trending.top-k:100}") int topK,
+                           @Value("${app.trending.max-tracked:50000}") int maxTracked) {
+        this.trendingRepository = trendingRepository;
+        this.halfLifeMillis = halfLifeHours * 3_600_000d;
+        this.topK = topK;
+        this.maxTracked = maxTracked;
+    }
+
+    public void record(Long articleId, TrendingSignal signal) {
+        long now = System.currentTimeMillis();
+        add(scores, articleId, signal.weight(), now);
+        add(unsaved, articleId, signal.weight(), now);
+    }
+
+    // Highest scores first, at most top-k entries
+    public List<TrendingScore> top() {
+        return top;
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        if ((now - scores.epochMillis) / halfLifeMillis > REBASE_AFTER_HALF_LIVES) {
+            rebase(now);
+        }
+        Scores current = scores;
+        double growth = current.growth(now, halfLifeMillis);
+        LocalDateTime scoredAt = toLocalDateTime(now);
+
+        PriorityQueue<TrendingScore> heap = new PriorityQueue<>(Comparator.comparingDouble(TrendingScore::getScore));
+        List<Double> tracked = new ArrayList<>(current.values.size());
+        for (Map.Entry<Long, DoubleAdder> entry : current.values.entrySet()) {
+            double score = entry.getValue().sum() / growth;
+            if (score < MIN_SCORE) {
+                current.values.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            tracked.add(score);
+            heap.offer(new TrendingScore(entry.getKey(), score, scoredAt));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        if (tracked.size() > maxTracked) {
+            evictLowest(current, tracked, growth);
+        }
+
+        List<TrendingScore> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(TrendingScore::getScore).reversed());
+        top = List.copyOf(ranked);
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            Scores drained = unsaved;
+            unsaved = new Scores(System.currentTimeMillis());
+
+            long now = System.currentTimeMillis();
+            Map<Long, Double> sums = new HashMap<>();
+            drain(retired, now, sums);
+            drain(drained, now, sums);
+            retired = drained;
+
+            LocalDateTime scoredAt = toLocalDateTime(now);
+            List<TrendingScore> deltas = new ArrayList<>(sums.size());
+            sums.forEach((id, score) -> deltas.add(new TrendingScore(id, score, scoredAt)));
+            long staleMillis = (long) (halfLifeMillis * 7);
+            try {
+                trendingRepository.mergeSnapshot(deltas, halfLifeMillis, toLocalDateTime(now - staleMillis))
+                        .block(SNAPSHOT_TIMEOUT);
+            } catch (RuntimeException e) {
+                // Kept for the next snapshot; after a timeout the merge may still have committed and count twice
+                log.warn("Failed to persist trending snapshot", e);
+                deltas.forEach(delta -> add(unsaved, delta.getArticleId(), delta.getScore(), now));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long now = System.currentTimeMillis();
+            Scores current = scores;
+            trendingRepository.findSnapshot()
+                    .doOnNext(saved -> {
+                        long scoredAtMillis = saved.getScoredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                        double decayed = saved.getScore() * Math.pow(2, -(now - scoredAtMillis) / halfLifeMillis);
+                        add(current, saved.getArticleId(), decayed, now);
+                    })
+                    .then()
+                    .block(SNAPSHOT_TIMEOUT);
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load trending snapshot, starting cold", e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void add(Scores target, Long articleId, double weight, long at) {
+        target.values.computeIfAbsent(articleId, id -> new DoubleAdder())
+                .add(weight * target.growth(at, halfLifeMillis));
+    }
+
+    // Takes what each adder holds, valued at the given time; anything added meanwhile stays for later
+    private void drain(Scores source, long at, Map<Long, Double> sums) {
+        double growth = source.growth(at, halfLifeMillis);
+        source.values.forEach((id, sum) -> {
+            double drained = sum.sumThenReset();
+            if (drained != 0) {
+                sums.merge(id, drained / growth, Double::sum);
+            }
+        });
+    }
+
+    // Moves the epoch to now by swapping in a rescaled copy; signals that land in the old map
+    // while it is being copied are dropped
+    private void rebase(long now) {
+        Scores old = scores;
+        Scores rebased = new Scores(now);
+        double factor = old.growth(now, halfLifeMillis);
+        old.values.forEach((id, sum) -> rebased.values.put(id, adderOf(sum.sum() / factor)));
+        scores = rebased;
+    }
+
+    private void evictLowest(Scores current, List<Double> tracked, double growth) {
+        tracked.sort(Comparator.reverseOrder());
+        double cutoff = tracked.get(maxTracked - 1);
+        current.values.entrySet().removeIf(entry -> entry.getValue().sum() / growth < cutoff);
+    }
+
+    private static DoubleAdder adderOf(double value) {
+        DoubleAdder adder = new DoubleAdder();
+        adder.add(value);
+        return adder;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class Scores {
+        final long epochMillis;
+        final ConcurrentHashMap<Long, DoubleAdder> values = new ConcurrentHashMap<>();
+
+        Scores(long epochMillis) {
+            this.epochMillis = epochMillis;
+        }
+
+        double growth(long at, double halfLifeMillis) {
+            return Math.pow(2, (at - epochMillis) / halfLifeMillis);
+        }
+    }
+}
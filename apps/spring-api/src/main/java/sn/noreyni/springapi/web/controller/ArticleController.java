@@ -5,20 +5,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import sn.noreyni.springapi.application.dto.ArticleDto;
 import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.dto.ImportProgressDto;
 import sn.noreyni.springapi.application.facade.ArticleFacade;
 import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
 import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
 import sn.noreyni.springapi.web.request.ArticleRequest;
+import sn.noreyni.springapi.web.support.ConditionalGet;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/articles")
 @RequiredArgsConstructor
@@ -32,7 +42,7 @@ public class ArticleController {
     @Operation(summary = "Create a new article")
     @ResponseStatus(HttpStatus.CREATED)
     public Mono<ArticleDto> create(@Valid @RequestBody ArticleRequest request,
-                                  @AuthenticationPrincipal UserDetails userDetails) {
+                                  @AuthenticationPrincipal AuthenticatedUser user) {
         log.debug("Creating article: {}", request.getTitle());
         Article article = Article.builder()
                 .title(request.getTitle())
@@ -40,15 +50,76 @@ public class ArticleController {
                 .imageUrl(request.getImageUrl())
                 .status(request.getStatus() != null ? request.getStatus() : ArticleStatus.DRAFT)
                 .build();
-        return articleFacade.createArticle(article, userDetails.getUsername());
+        return articleFacade.createArticle(article, user.getId());
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import articles from newline-delimited JSON, reporting progress and rejected lines after every batch")
+    public Flux<ImportProgressDto> importArticles(@RequestBody Flux<DataBuffer> body,
+                                                  @AuthenticationPrincipal AuthenticatedUser user) {
+        return articleFacade.importArticles(body, user.getId());
     }
 
     @GetMapping
     @Operation(summary = "Get paginated list of articles")
     public Mono<Page<ArticleSummaryDto>> getAll(
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("articles", page, size),
+                articleFacade.getAllArticles(PageRequest.of(page, size)),
+                ConditionalGet.page(ConditionalGet::summary));
+    }
+
+    @GetMapping(params = "tag")
+    @Operation(summary = "Get articles with a given tag, newest first, with cursor-based pagination")
+    public Mono<CursorPageDto<ArticleSummaryDto>> getByTag(
+            @RequestParam String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("articles-tag", tag, cursor, size),
+                articleFacade.getArticlesByTag(tag, cursor, size),
+                ConditionalGet.cursorPage(ConditionalGet::summary));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Get articles with cursor-based pagination")
+    public Mono<CursorPageDto<ArticleSummaryDto>> scroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("articles-scroll", cursor, size),
+                articleFacade.scrollArticles(cursor, size),
+                ConditionalGet.cursorPage(ConditionalGet::summary));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search articles by title and content, best matches first")
+    public Mono<CursorPageDto<ArticleSummaryDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) ArticleStatus status,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        return articleFacade.getAllArticles(PageRequest.of(page, size));
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.builder()
+                .query(q)
+                .tag(tag)
+                .status(status)
+                .build();
+        return articleFacade.searchArticles(criteria, cursor, size);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "Get published articles ranked by recent views, likes and comments")
+    public Mono<List<ArticleSummaryDto>> trending(@RequestParam(defaultValue = "10") int limit) {
+        return articleFacade.getTrendingArticles(limit);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every article with its tags as newline-delimited JSON")
+    public Flux<ArticleDto> export() {
+        return articleFacade.exportArticles();
     }
 
     @GetMapping("/author/{authorId}")
@@ -56,14 +127,30 @@ public class ArticleController {
     public Mono<Page<ArticleSummaryDto>> getByAuthor(
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return articleFacade.getArticlesByAuthor(authorId, PageRequest.of(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("articles-author", authorId, page, size),
+                articleFacade.getArticlesByAuthor(authorId, PageRequest.of(page, size)),
+                ConditionalGet.page(ConditionalGet::summary));
+    }
+
+    @GetMapping("/author/{authorId}/scroll")
+    @Operation(summary = "Get articles by author with cursor-based pagination")
+    public Mono<CursorPageDto<ArticleSummaryDto>> scrollByAuthor(
+            @PathVariable Long authorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("articles-author-scroll", authorId, cursor, size),
+                articleFacade.scrollArticlesByAuthor(authorId, cursor, size),
+                ConditionalGet.cursorPage(ConditionalGet::summary));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get article by ID")
-    public Mono<ArticleDto> getById(@PathVariable Long id) {
-        return articleFacade.getArticleById(id);
+    public Mono<ArticleDto> getById(@PathVariable Long id, ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, "article-" + id, articleFacade.getArticleById(id),
+                ConditionalGet::article);
     }
 
     @DeleteMapping("/{id}")
@@ -9,12 +9,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
 import sn.noreyni.springapi.application.facade.CommentFacade;
 import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
 import sn.noreyni.springapi.web.request.CommentRequest;
+import sn.noreyni.springapi.web.support.ConditionalGet;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -31,13 +34,13 @@ public class CommentController {
     @ResponseStatus(HttpStatus.CREATED)
     public Mono<CommentDto> addComment(@PathVariable Long articleId,
                                       @Valid @RequestBody CommentRequest request,
-                                      @AuthenticationPrincipal UserDetails userDetails) {
+                                      @AuthenticationPrincipal AuthenticatedUser user) {
         log.debug("Adding comment to article: {}", articleId);
         Comment comment = Comment.builder()
                 .content(request.getContent())
                 .articleId(articleId)
                 .build();
-        return commentFacade.addComment(comment, userDetails.getUsername());
+        return commentFacade.addComment(comment, user);
     }
 
     @GetMapping
@@ -45,15 +48,30 @@ public class CommentController {
     public Mono<Page<CommentDto>> getCommentsByArticle(
             @PathVariable Long articleId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return commentFacade.getCommentsByArticle(articleId, PageRequest.of(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("comments", articleId, page, size),
+                commentFacade.getCommentsByArticle(articleId, PageRequest.of(page, size)),
+                ConditionalGet.page(ConditionalGet::comment));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Get comments for an article with cursor-based pagination")
+    public Mono<CursorPageDto<CommentDto>> scrollCommentsByArticle(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServerWebExchange exchange) {
+        return ConditionalGet.respond(exchange, ConditionalGet.key("comments-scroll", articleId, cursor, size),
+                commentFacade.scrollCommentsByArticle(articleId, cursor, size),
+                ConditionalGet.cursorPage(ConditionalGet::comment));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete comment")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public Mono<Void> delete(@PathVariable Long id,
-                             @AuthenticationPrincipal UserDetails userDetails) {
-        return commentFacade.deleteComment(id, userDetails.getUsername());
+                             @AuthenticationPrincipal AuthenticatedUser user) {
+        return commentFacade.deleteComment(id, user.getId());
     }
 }
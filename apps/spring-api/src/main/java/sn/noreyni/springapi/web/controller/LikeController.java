@@ -0,0 +1,45 @@
+package sn.noreyni.springapi.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import sn.noreyni.springapi.application.dto.LikeDto;
+import sn.noreyni.springapi.application.facade.LikeFacade;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/articles/{articleId}/likes")
+@RequiredArgsConstructor
+@Tag(name = "Likes", description = "Article like APIs")
+@Slf4j
+public class LikeController {
+
+    private final LikeFacade likeFacade;
+
+    @PostMapping
+    @Operation(summary = "Like an article")
+    public Mono<LikeDto> like(@PathVariable Long articleId,
+                              @AuthenticationPrincipal AuthenticatedUser user) {
+        log.debug("Liking article: {}", articleId);
+        return likeFacade.like(articleId, user.getId());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Remove a like from an article")
+    public Mono<LikeDto> unlike(@PathVariable Long articleId,
+                                @AuthenticationPrincipal AuthenticatedUser user) {
+        log.debug("Unliking article: {}", articleId);
+        return likeFacade.unlike(articleId, user.getId());
+    }
+
+    @GetMapping("/me")
+    @Operation(summary = "Check whether the current user liked an article")
+    public Mono<LikeDto> getLikeStatus(@PathVariable Long articleId,
+                                       @AuthenticationPrincipal AuthenticatedUser user) {
+        return likeFacade.getLikeStatus(articleId, user.getId());
+    }
+}
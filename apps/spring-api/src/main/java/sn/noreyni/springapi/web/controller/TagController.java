@@ -0,0 +1,27 @@
+package sn.noreyni.springapi.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sn.noreyni.springapi.application.dto.TagCountDto;
+import sn.noreyni.springapi.application.facade.TagFacade;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tags", description = "Tag APIs")
+public class TagController {
+
+    private final TagFacade tagFacade;
+
+    @GetMapping
+    @Operation(summary = "Get tags with their article counts, most used first")
+    public Flux<TagCountDto> getTags(@RequestParam(defaultValue = "100") int limit) {
+        return tagFacade.getTags(limit);
+    }
+}
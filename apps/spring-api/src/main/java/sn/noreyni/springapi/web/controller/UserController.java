@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
 import sn.noreyni.springapi.application.dto.UserDto;
 import sn.noreyni.springapi.application.facade.UserFacade;
 import reactor.core.publisher.Mono;
@@ -46,6 +47,14 @@ public class UserController {
         return userFacade.getUsers(PageRequest.of(page, size));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get users with cursor-based pagination")
+    public Mono<CursorPageDto<UserDto>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return userFacade.scrollUsers(cursor, size);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
     public Mono<UserDto> getUser(@PathVariable Long id) {
@@ -0,0 +1,82 @@
+package sn.noreyni.springapi.web.support;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.AuthorDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.dto.UserDto;
+import reactor.core.publisher.Mono;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Answers If-None-Match from the body the request fetched anyway, so a validator costs no query of its own.
+// The ETag hashes the content fields only; live view and like counters may differ between two 200s with the same ETag.
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static <T> Mono<T> respond(ServerWebExchange exchange, String resource,
+                                      Mono<T> body, Function<T, ?> content) {
+        return body.flatMap(rendered -> {
+            // Caches may store the response but must revalidate it on every use
+            exchange.getResponse().getHeaders().setCacheControl(CacheControl.noCache());
+            return exchange.checkNotModified(etag(resource, content.apply(rendered))) ? Mono.<T>empty() : Mono.just(rendered);
+        });
+    }
+
+    // Resource name for one page of a list: each page gets its own ETag. Parts are URL-encoded, which
+    // keeps user input such as tags and cursors within the characters an ETag may hold.
+    public static String key(Object... parts) {
+        return Arrays.stream(parts)
+                .map(part -> URLEncoder.encode(Objects.toString(part, ""), StandardCharsets.UTF_8))
+                .collect(Collectors.joining(":"));
+    }
+
+    public static <T> Function<Page<T>, ?> page(Function<T, ?> item) {
+        return page -> List.of(page.getTotalElements(), page.getContent().stream().map(item).toList());
+    }
+
+    public static <T> Function<CursorPageDto<T>, ?> cursorPage(Function<T, ?> item) {
+        return page -> Arrays.asList(page.getNextCursor(), page.getPrevCursor(),
+                page.getContent().stream().map(item).toList());
+    }
+
+    public static Object summary(ArticleSummaryDto article) {
+        return Arrays.asList(article.getId(), article.getTitle(), article.getExcerpt(), article.getImageUrl(),
+                article.getStatus(), article.getCommentCount(), article.getUpdatedAt(), author(article.getAuthor()));
+    }
+
+    // Comments are never edited, so their id stands for their text
+    public static Object comment(CommentDto comment) {
+        return Arrays.asList(comment.getId(), author(comment.getAuthor()));
+    }
+
+    // The article's content_version moves with its text, status, tags and comment count, so the
+    // content itself is not hashed on every request
+    public static Object article(ArticleDto article) {
+        UserDto author = article.getAuthor();
+        return Arrays.asList(article.getId(), article.getContentVersion(), article.getUpdatedAt(), article.getCommentsCursor(),
+                author != null ? Arrays.asList(author.getUsername(), author.getFirstName(), author.getLastName()) : null,
+                article.getComments() != null ? article.getComments().stream().map(ConditionalGet::comment).toList() : null);
+    }
+
+    private static Object author(AuthorDto author) {
+        return author != null ? Arrays.asList(author.getUsername(), author.getDisplayName()) : null;
+    }
+
+    private static String etag(String resource, Object content) {
+        return "\"" + resource + "-" + DigestUtils.md5DigestAsHex(String.valueOf(content).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+-- Listing articles of a tag walks this index instead of the (article_id, tag_id) primary key
+CREATE INDEX idx_article_tags_tag_id_article_id ON article_tags(tag_id, article_id);
+
+-- Maintained by the application when article tags change, read as is by the tag cloud
+ALTER TABLE tags ADD COLUMN article_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tags t
+SET article_count = c.total
+FROM (SELECT tag_id, COUNT(*) AS total FROM article_tags GROUP BY tag_id) c
+WHERE t.id = c.tag_id;
+
+CREATE INDEX idx_tags_article_count ON tags(article_count DESC, name);
@@ -0,0 +1,7 @@
+-- Kept in step by the comment insert/delete statements, repaired periodically by the application
+ALTER TABLE articles ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE articles a
+SET comment_count = c.total
+FROM (SELECT article_id, COUNT(*) AS total FROM comments GROUP BY article_id) c
+WHERE a.id = c.article_id;
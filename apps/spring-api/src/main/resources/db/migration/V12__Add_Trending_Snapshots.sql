@@ -0,0 +1,6 @@
+-- Last persisted trending scores, used to warm the in-memory ranking after a restart
+CREATE TABLE trending_snapshots (
+    article_id BIGINT PRIMARY KEY REFERENCES articles(id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    scored_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,50 @@
+-- Validators for conditional GETs. content_version moves whenever the rendered article changes
+-- (text, status, comment count, tags); view and like counters deliberately do not move it.
+ALTER TABLE articles ADD COLUMN content_version BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE articles ADD COLUMN modified_at TIMESTAMP NOT NULL DEFAULT now();
+
+UPDATE articles SET modified_at = COALESCE(updated_at, created_at, now());
+
+-- One row per list, bumped whenever any of its items changes
+CREATE TABLE content_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 1,
+    modified_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO content_versions (name) VALUES ('articles');
+
+CREATE FUNCTION bump_article_version() RETURNS trigger AS $$
+BEGIN
+    -- An explicit bump from the application (tag changes) is kept as is
+    IF NEW.content_version = OLD.content_version
+        AND (NEW.title, NEW.content, NEW.image_url, NEW.status, NEW.comment_count, NEW.updated_at)
+            IS DISTINCT FROM (OLD.title, OLD.content, OLD.image_url, OLD.status, OLD.comment_count, OLD.updated_at) THEN
+        NEW.content_version := OLD.content_version + 1;
+    END IF;
+    IF NEW.content_version <> OLD.content_version THEN
+        NEW.modified_at := now();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_article_list_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE content_versions SET version = version + 1, modified_at = now() WHERE name = 'articles';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER articles_content_version
+    BEFORE UPDATE ON articles
+    FOR EACH ROW EXECUTE FUNCTION bump_article_version();
+
+CREATE TRIGGER articles_list_version_on_update
+    AFTER UPDATE ON articles
+    FOR EACH ROW WHEN (OLD.content_version IS DISTINCT FROM NEW.content_version)
+    EXECUTE FUNCTION bump_article_list_version();
+
+CREATE TRIGGER articles_list_version_on_insert_delete
+    AFTER INSERT OR DELETE ON articles
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_article_list_version();
@@ -0,0 +1,28 @@
+-- Every article write used to bump the single content_versions row, serializing all writers on it.
+-- List validators are now aggregated from the articles a list covers (see ArticleRepositoryImpl).
+DROP TRIGGER articles_list_version_on_update ON articles;
+DROP TRIGGER articles_list_version_on_insert_delete ON articles;
+DROP FUNCTION bump_article_list_version();
+DROP TABLE content_versions;
+
+CREATE INDEX idx_articles_modified_at ON articles(modified_at);
+CREATE INDEX idx_articles_author_modified_at ON articles(author_id, modified_at);
+
+-- Responses embed author names, so a profile change has to move the validators too
+ALTER TABLE users ADD COLUMN modified_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE FUNCTION touch_user_profile() RETURNS trigger AS $$
+BEGIN
+    IF (NEW.username, NEW.first_name, NEW.last_name)
+            IS DISTINCT FROM (OLD.username, OLD.first_name, OLD.last_name) THEN
+        NEW.modified_at := now();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER users_profile_modified_at
+    BEFORE UPDATE ON users
+    FOR EACH ROW EXECUTE FUNCTION touch_user_profile();
+
+CREATE INDEX idx_users_modified_at ON users(modified_at);
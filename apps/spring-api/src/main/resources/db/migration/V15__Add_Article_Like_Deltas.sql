@@ -0,0 +1,8 @@
+-- Like toggles add to one of a few shard rows instead of updating articles.likes, so a burst of likes
+-- on one article does not queue on its row lock. LikeCountFolder moves the shards into articles.likes.
+CREATE TABLE article_like_deltas (
+    article_id BIGINT NOT NULL REFERENCES articles(id) ON DELETE CASCADE,
+    shard SMALLINT NOT NULL,
+    delta INTEGER NOT NULL,
+    PRIMARY KEY (article_id, shard)
+);
@@ -0,0 +1,23 @@
+-- ETags are now derived from the rows a GET fetches anyway (see ConditionalGet); nothing reads
+-- modified_at any more, so it no longer needs maintaining on every article and profile write.
+DROP INDEX idx_articles_modified_at;
+DROP INDEX idx_articles_author_modified_at;
+
+CREATE OR REPLACE FUNCTION bump_article_version() RETURNS trigger AS $$
+BEGIN
+    -- An explicit bump from the application (tag changes) is kept as is
+    IF NEW.content_version = OLD.content_version
+        AND (NEW.title, NEW.content, NEW.image_url, NEW.status, NEW.comment_count, NEW.updated_at)
+            IS DISTINCT FROM (OLD.title, OLD.content, OLD.image_url, OLD.status, OLD.comment_count, OLD.updated_at) THEN
+        NEW.content_version := OLD.content_version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE articles DROP COLUMN modified_at;
+
+DROP TRIGGER users_profile_modified_at ON users;
+DROP FUNCTION touch_user_profile();
+DROP INDEX idx_users_modified_at;
+ALTER TABLE users DROP COLUMN modified_at;
@@ -0,0 +1,5 @@
+-- Composite indexes backing keyset pagination on (created_at, id)
+CREATE INDEX idx_articles_created_at_id ON articles(created_at, id);
+CREATE INDEX idx_articles_author_id_created_at_id ON articles(author_id, created_at, id);
+CREATE INDEX idx_comments_article_id_created_at_id ON comments(article_id, created_at, id);
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
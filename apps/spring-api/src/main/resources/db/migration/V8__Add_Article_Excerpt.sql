@@ -0,0 +1,4 @@
+-- Bounded excerpt stored at write time so that list queries never read the article body
+ALTER TABLE articles ADD COLUMN excerpt VARCHAR(300);
+
+UPDATE articles SET excerpt = LEFT(btrim(regexp_replace(content, '\s+', ' ', 'g')), 280);
@@ -0,0 +1,9 @@
+-- Full-text search over title and content. The 'simple' configuration does no stemming, which
+-- keeps matching predictable for articles written in several languages.
+ALTER TABLE articles ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_articles_search_vector ON articles USING GIN (search_vector);
@@ -0,0 +1,63 @@
+package sn.noreyni.springapi.application.loader;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.mapper.UserMapperImpl;
+import sn.noreyni.springapi.domain.model.User;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthorBatchLoaderTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthorBatchLoader loader = new AuthorBatchLoader(userRepository, new UserMapperImpl());
+
+    @Test
+    void authorsOfAllItemsComeFromOneQuery() {
+        when(userRepository.findAllByIds(any())).thenReturn(Flux.just(
+                User.builder().id(1L).username("ada").firstName("Ada").lastName("Lovelace").build(),
+                User.builder().id(2L).username("alan").build()));
+        List<CommentDto> comments = List.of(comment(1L), comment(2L), comment(1L), comment(null));
+
+        StepVerifier.create(loader.attach(comments, CommentDto::getAuthorId, CommentDto::setAuthor)).verifyComplete();
+
+        verify(userRepository, times(1)).findAllByIds(Set.of(1L, 2L));
+        assertThat(comments).extracting(comment -> comment.getAuthor() != null ? comment.getAuthor().getDisplayName() : null)
+                .containsExactly("Ada Lovelace", "alan", "Ada Lovelace", null);
+    }
+
+    @Test
+    void deletedAuthorsAreLeftOut() {
+        when(userRepository.findAllByIds(any())).thenReturn(Flux.empty());
+        List<CommentDto> comments = List.of(comment(3L));
+
+        loader.attach(comments, CommentDto::getAuthorId, CommentDto::setAuthor).block();
+
+        assertThat(comments.get(0).getAuthor()).isNull();
+    }
+
+    @Test
+    void nothingToResolveRunsNoQuery() {
+        StepVerifier.create(loader.loadUsers(Arrays.asList(null, null)))
+                .assertNext(users -> assertThat(users).isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    private static CommentDto comment(Long authorId) {
+        return CommentDto.builder().authorId(authorId).build();
+    }
+}
@@ -0,0 +1,74 @@
+package sn.noreyni.springapi.application.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPagesTest {
+
+    // Rows are ids, newest (highest) first, positioned by id alone
+    private static final Function<Long, Cursor> POSITION = id -> Cursor.of(null, id);
+
+    @Test
+    void firstPageOnlyPointsForward() {
+        CursorPageDto<Long> page = CursorPages.of(rows(10, 7), null, 3, POSITION, Function.identity());
+
+        assertThat(page.getContent()).containsExactly(10L, 9L, 8L);
+        assertThat(page.getPrevCursor()).isNull();
+        Cursor next = Cursor.decode(page.getNextCursor());
+        assertThat(next.getId()).isEqualTo(8L);
+        assertThat(next.isBackward()).isFalse();
+    }
+
+    @Test
+    void lastPageHasNoNextCursor() {
+        Cursor requested = Cursor.of(null, 8L);
+
+        CursorPageDto<Long> page = CursorPages.of(rows(7, 6), requested, 3, POSITION, Function.identity());
+
+        assertThat(page.getContent()).containsExactly(7L, 6L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(Cursor.decode(page.getPrevCursor())).satisfies(prev -> {
+            assertThat(prev.getId()).isEqualTo(7L);
+            assertThat(prev.isBackward()).isTrue();
+        });
+    }
+
+    @Test
+    void backwardPageKeepsTheRowsNextToTheCursor() {
+        // Seeking back from 4 with size + 1 rows: 8 only tells that there is another page before
+        Cursor requested = Cursor.of(null, 4L).previous();
+
+        CursorPageDto<Long> page = CursorPages.of(rows(8, 5), requested, 3, POSITION, Function.identity());
+
+        assertThat(page.getContent()).containsExactly(7L, 6L, 5L);
+        assertThat(Cursor.decode(page.getPrevCursor()).getId()).isEqualTo(7L);
+        assertThat(Cursor.decode(page.getNextCursor()).getId()).isEqualTo(5L);
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(CursorPages.decode(null)).isNull();
+        assertThat(CursorPages.decode(" ")).isNull();
+    }
+
+    @Test
+    void invalidTokenIsABadRequest() {
+        assertThatThrownBy(() -> CursorPages.decode("not-a-cursor"))
+                .isInstanceOfSatisfying(BlogException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static List<Long> rows(long from, long to) {
+        return LongStream.rangeClosed(to, from).boxed().sorted((a, b) -> Long.compare(b, a)).toList();
+    }
+}
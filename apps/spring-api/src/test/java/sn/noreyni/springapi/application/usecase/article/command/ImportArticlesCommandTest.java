@@ -0,0 +1,145 @@
+package sn.noreyni.springapi.application.usecase.article.command;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.application.dto.ImportErrorDto;
+import sn.noreyni.springapi.application.dto.ImportProgressDto;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.User;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.domain.repository.TagRepository;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImportArticlesCommandTest {
+    private static final Long IMPORTER_ID = 1L;
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final List<Article> inserted = new ArrayList<>();
+
+    ImportArticlesCommandTest() {
+        User author = User.builder().id(7L).email("author@example.com").build();
+        when(userRepository.findAllByEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.contains(author.getEmail()) ? Flux.just(author) : Flux.empty();
+        });
+        when(tagRepository.resolveIds(anyCollection())).thenReturn(Mono.just(Map.of("java", 3L)));
+        when(articleRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.getArgument(0);
+            inserted.addAll(articles);
+            return Mono.just(LongStream.rangeClosed(1, articles.size()).boxed().toList());
+        });
+    }
+
+    @Test
+    void importsValidLinesAndReportsTheOthers() {
+        List<ImportProgressDto> progress = importLines(1000, 1024,
+                "{\"title\":\"One\",\"content\":\"Body\",\"tags\":[\"java\"],\"authorEmail\":\"author@example.com\"}",
+                "{\"title\":",
+                "",
+                "{\"title\":\"Two\",\"content\":\"Body\",\"authorEmail\":\"nobody@example.com\"}",
+                "{\"title\":\"Three\",\"content\":\"Body\"}");
+
+        ImportProgressDto last = progress.get(progress.size() - 1);
+        assertThat(last.getProcessed()).isEqualTo(4);
+        assertThat(last.getImported()).isEqualTo(2);
+        assertThat(last.getFailed()).isEqualTo(2);
+        assertThat(last.getErrors()).extracting(ImportErrorDto::getLine).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(messageOf(last, 2)).startsWith("Malformed JSON");
+        assertThat(messageOf(last, 4)).isEqualTo("Unknown author: nobody@example.com");
+
+        assertThat(inserted).extracting(Article::getAuthorId).containsExactly(7L, IMPORTER_ID);
+        assertThat(inserted.get(0).getTags()).extracting("id").containsExactly(3L);
+    }
+
+    @Test
+    void overLongLineIsARowError() {
+        String longTitle = "x".repeat(100);
+        List<ImportProgressDto> progress = importLines(1000, 64,
+                "{\"title\":\"" + longTitle + "\",\"content\":\"Body\"}",
+                "{\"title\":\"Short\",\"content\":\"Body\"}");
+
+        ImportProgressDto last = progress.get(progress.size() - 1);
+        assertThat(last.getImported()).isEqualTo(1);
+        assertThat(messageOf(last, 1)).isEqualTo("Line is longer than 64 bytes");
+    }
+
+    @Test
+    void valuesTheColumnsCannotHoldAreRowErrors() {
+        List<ImportProgressDto> progress = importLines(1000, 1024,
+                "{\"title\":\"Image\",\"content\":\"Body\",\"imageUrl\":\"" + "u".repeat(256) + "\"}",
+                "{\"title\":\"Nul\\u0000\",\"content\":\"Body\"}",
+                "{\"title\":\"Date\",\"content\":\"Body\",\"createdAt\":\"+300000-01-01T00:00:00\"}",
+                "{\"title\":\"\",\"content\":\"Body\"}");
+
+        ImportProgressDto last = progress.get(progress.size() - 1);
+        assertThat(last.getImported()).isZero();
+        assertThat(messageOf(last, 1)).isEqualTo("Image URL is longer than 255 characters");
+        assertThat(messageOf(last, 2)).isEqualTo("Text must not contain NUL characters");
+        assertThat(messageOf(last, 3)).isEqualTo("Creation date is out of range");
+        assertThat(messageOf(last, 4)).isEqualTo("Title is required");
+    }
+
+    @Test
+    void reportsProgressPerBatch() {
+        List<ImportProgressDto> progress = importLines(2, 1024,
+                "{\"title\":\"One\",\"content\":\"Body\"}",
+                "{\"title\":\"Two\",\"content\":\"Body\"}",
+                "{\"title\":\"Three\",\"content\":\"Body\"}");
+
+        assertThat(progress).extracting(ImportProgressDto::getProcessed).containsExactly(2L, 3L);
+        assertThat(progress).extracting(ImportProgressDto::getImported).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void failedBatchInsertMarksItsLines() {
+        doReturn(Mono.error(new IllegalStateException("boom"))).when(articleRepository).insertAll(anyList());
+
+        List<ImportProgressDto> progress = importLines(1000, 1024, "{\"title\":\"One\",\"content\":\"Body\"}");
+
+        ImportProgressDto last = progress.get(0);
+        assertThat(last.getFailed()).isEqualTo(1);
+        assertThat(messageOf(last, 1)).isEqualTo("Batch insert failed");
+    }
+
+    private List<ImportProgressDto> importLines(int batchSize, int maxLineBytes, String... lines) {
+        ImportArticlesCommand command = new ImportArticlesCommand(articleRepository, userRepository, tagRepository,
+                new ObjectMapper().findAndRegisterModules(), batchSize, maxLineBytes);
+        // Split mid-line so lines cross buffer boundaries
+        byte[] bytes = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += 7) {
+            byte[] chunk = new byte[Math.min(7, bytes.length - start)];
+            System.arraycopy(bytes, start, chunk, 0, chunk.length);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return command.execute(Flux.fromIterable(buffers), IMPORTER_ID).collectList().block();
+    }
+
+    private static String messageOf(ImportProgressDto progress, long line) {
+        return progress.getErrors().stream()
+                .filter(error -> error.getLine() == line)
+                .map(ImportErrorDto::getMessage)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,92 @@
+package sn.noreyni.springapi.application.usecase.article.command;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonLineSplitterTest {
+
+    @Test
+    void joinsLinesSplitAcrossBuffers() {
+        assertThat(texts(split(16, "{\"a\":", "1}\n{\"b\"", ":2}\n"))).containsExactly("{\"a\":1}", "{\"b\":2}");
+    }
+
+    @Test
+    void stripsCarriageReturns() {
+        assertThat(texts(split(16, "one\r\ntwo\r\n"))).containsExactly("one", "two");
+    }
+
+    @Test
+    void keepsLastLineWithoutNewline() {
+        assertThat(texts(split(16, "one\ntwo"))).containsExactly("one", "two");
+    }
+
+    @Test
+    void keepsMultiByteCharactersSplitAcrossBuffers() {
+        byte[] bytes = "é\n".getBytes(StandardCharsets.UTF_8);
+        NdjsonLineSplitter splitter = new NdjsonLineSplitter(16);
+        List<NdjsonLineSplitter.Line> lines = new ArrayList<>(splitter.split(buffer(new byte[]{bytes[0]})));
+        lines.addAll(splitter.split(buffer(new byte[]{bytes[1], bytes[2]})));
+
+        assertThat(texts(lines)).containsExactly("é");
+    }
+
+    @Test
+    void reportsOverLongLineAndCarriesOn() {
+        List<NdjsonLineSplitter.Line> lines = split(4, "ok\n", "much too long", " still\nfine\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).text).isEqualTo("ok");
+        assertThat(lines.get(1).isTooLong()).isTrue();
+        assertThat(lines.get(2).text).isEqualTo("fine");
+    }
+
+    @Test
+    void lineAtTheLimitIsKept() {
+        List<NdjsonLineSplitter.Line> lines = split(4, "abcd\nabcde\nab", "cd\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).text).isEqualTo("abcd");
+        assertThat(lines.get(1).isTooLong()).isTrue();
+        assertThat(lines.get(2).text).isEqualTo("abcd");
+    }
+
+    @Test
+    void reportsOverLongLastLine() {
+        List<NdjsonLineSplitter.Line> lines = split(4, "ok\nmuch too long");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1).isTooLong()).isTrue();
+    }
+
+    @Test
+    void blankLinesAreMarkedBlank() {
+        List<NdjsonLineSplitter.Line> lines = split(16, "\n  \nx\n");
+
+        assertThat(lines).extracting(NdjsonLineSplitter.Line::isBlank).containsExactly(true, true, false);
+    }
+
+    private static List<NdjsonLineSplitter.Line> split(int maxLineBytes, String... chunks) {
+        NdjsonLineSplitter splitter = new NdjsonLineSplitter(maxLineBytes);
+        List<NdjsonLineSplitter.Line> lines = new ArrayList<>();
+        for (String chunk : chunks) {
+            lines.addAll(splitter.split(buffer(chunk.getBytes(StandardCharsets.UTF_8))));
+        }
+        lines.addAll(splitter.finish());
+        return lines;
+    }
+
+    private static DataBuffer buffer(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private static List<String> texts(List<NdjsonLineSplitter.Line> lines) {
+        return lines.stream().map(line -> line.text).toList();
+    }
+}
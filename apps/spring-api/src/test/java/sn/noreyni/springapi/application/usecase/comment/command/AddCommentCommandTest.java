@@ -0,0 +1,66 @@
+package sn.noreyni.springapi.application.usecase.comment.command;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.application.mapper.CommentMapperImpl;
+import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.repository.CommentRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+import sn.noreyni.springapi.infrastructure.exception.BlogException;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AddCommentCommandTest {
+    private final AuthenticatedUser author = new AuthenticatedUser(7L, "reader@example.com", "USER", "reader", "Ada Reader");
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ArticleCache articleCache = mock(ArticleCache.class);
+    private final TrendingTracker trendingTracker = mock(TrendingTracker.class);
+    private final AddCommentCommand command = new AddCommentCommand(commentRepository, new CommentMapperImpl(),
+            articleCache, trendingTracker);
+
+    @Test
+    void savesWithTheAuthorFromTheToken() {
+        when(commentRepository.save(any())).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            comment.setId(5L);
+            return Mono.just(comment);
+        });
+        when(articleCache.evict(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(command.execute(Comment.builder().articleId(1L).content("Nice").build(), author))
+                .assertNext(dto -> {
+                    assertThat(dto.getId()).isEqualTo(5L);
+                    assertThat(dto.getAuthorId()).isEqualTo(7L);
+                    assertThat(dto.getAuthor().getUsername()).isEqualTo("reader");
+                    assertThat(dto.getAuthor().getDisplayName()).isEqualTo("Ada Reader");
+                    assertThat(dto.getCreatedAt()).isNotNull();
+                })
+                .verifyComplete();
+
+        verify(trendingTracker).record(1L, TrendingSignal.COMMENT);
+    }
+
+    @Test
+    void missingArticleIsNotFound() {
+        when(commentRepository.save(any())).thenReturn(Mono.error(new DataIntegrityViolationException("comments_article_id_fkey")));
+
+        StepVerifier.create(command.execute(Comment.builder().articleId(404L).content("Nice").build(), author))
+                .expectErrorSatisfies(e -> assertThat(((BlogException) e).getStatus()).isEqualTo(HttpStatus.NOT_FOUND))
+                .verify();
+
+        verify(articleCache, never()).evict(any());
+        verify(trendingTracker, never()).record(any(), any());
+    }
+}
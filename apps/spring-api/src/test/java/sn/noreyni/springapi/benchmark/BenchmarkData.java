@@ -0,0 +1,85 @@
+package sn.noreyni.springapi.benchmark;
+
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.model.Tag;
+import sn.noreyni.springapi.domain.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Typical payloads: a 2 KB article with three tags, a page of ten summaries, ten comments
+public final class BenchmarkData {
+    public static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+    public static final String CONTENT = "Reactive streams keep the event loop busy with useful work. ".repeat(34);
+
+    private BenchmarkData() {
+    }
+
+    public static Article article() {
+        return Article.builder()
+                .id(42L)
+                .title("Scaling reads with Postgres replicas")
+                .content(CONTENT)
+                .excerpt(ArticleSummary.excerptOf(CONTENT))
+                .imageUrl("https://picsum.photos/seed/42/800/600")
+                .status(ArticleStatus.PUBLISHED)
+                .authorId(7L)
+                .views(1234)
+                .likes(56)
+                .tags(List.of(new Tag(1L, "Java"), new Tag(2L, "PostgreSQL"), new Tag(3L, "Kubernetes")))
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static ArticleSummary summary(long id) {
+        return ArticleSummary.builder()
+                .id(id)
+                .title("Article " + id)
+                .excerpt(ArticleSummary.excerptOf(CONTENT))
+                .imageUrl("https://picsum.photos/seed/" + id + "/800/600")
+                .status(ArticleStatus.PUBLISHED)
+                .authorId(7L)
+                .views(1234)
+                .likes(56)
+                .commentCount(10)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static List<ArticleSummary> summaries() {
+        return IntStream.rangeClosed(1, 10).mapToObj(BenchmarkData::summary).toList();
+    }
+
+    public static Comment comment(long id) {
+        return Comment.builder()
+                .id(id)
+                .content("Thanks, the part about connection pinning was exactly what I needed.")
+                .authorId(8L)
+                .articleId(42L)
+                .createdAt(NOW)
+                .build();
+    }
+
+    public static List<Comment> comments() {
+        return IntStream.rangeClosed(1, 10).mapToObj(BenchmarkData::comment).toList();
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(7L)
+                .username("admin1")
+                .firstName("Admin")
+                .lastName("One")
+                .email("admin1@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .role("ROLE_ADMIN")
+                .createdAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package sn.noreyni.springapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.AuthorDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.application.mapper.ArticleMapperImpl;
+import sn.noreyni.springapi.application.mapper.CommentMapper;
+import sn.noreyni.springapi.application.mapper.CommentMapperImpl;
+import sn.noreyni.springapi.application.mapper.TagMapperImpl;
+import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.mapper.UserMapperImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of GET /api/articles/{id} and GET /api/articles
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private ArticleDto article;
+    private Page<ArticleSummaryDto> page;
+
+    @Setup
+    public void setUp() {
+        // Same modules and date format as the application's ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ArticleMapper articleMapper = new ArticleMapperImpl();
+        ReflectionTestUtils.setField(articleMapper, "tagMapper", new TagMapperImpl());
+        CommentMapper commentMapper = new CommentMapperImpl();
+        UserMapper userMapper = new UserMapperImpl();
+        AuthorDto author = userMapper.toAuthorDto(BenchmarkData.user());
+
+        List<CommentDto> comments = BenchmarkData.comments().stream()
+                .map(commentMapper::toDto)
+                .peek(comment -> comment.setAuthor(author))
+                .toList();
+        article = articleMapper.toDto(BenchmarkData.article());
+        article.setAuthor(userMapper.toDto(BenchmarkData.user()));
+        article.setComments(comments);
+        article.setCommentCount((long) comments.size());
+
+        List<ArticleSummaryDto> summaries = BenchmarkData.summaries().stream()
+                .map(articleMapper::toSummaryDto)
+                .peek(summary -> summary.setAuthor(author))
+                .toList();
+        page = new PageImpl<>(summaries, PageRequest.of(0, summaries.size()), 1000);
+    }
+
+    @Benchmark
+    public byte[] article() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(article);
+    }
+
+    @Benchmark
+    public byte[] articlePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,68 @@
+package sn.noreyni.springapi.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import sn.noreyni.springapi.infrastructure.security.AuthenticatedUser;
+import sn.noreyni.springapi.infrastructure.security.JwtService;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Runs on every authenticated request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    // 0 disables the verified-token cache, so every call pays for the signature check
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry(), "benchmark-secret-key-that-is-at-least-256-bits-long",
+                TimeUnit.HOURS.toMillis(1), verifiedCacheSize);
+        userDetails = User.withUsername(BenchmarkData.user().getEmail()).password("password").roles("ADMIN").build();
+        token = jwtService.generateToken(BenchmarkData.user());
+    }
+
+    @Benchmark
+    public Optional<Claims> verify() {
+        return jwtService.verify(token);
+    }
+
+    // What JwtAuthenticationFilter does per request
+    @Benchmark
+    public AuthenticatedUser principal() {
+        return jwtService.verify(token).map(jwtService::toPrincipal).orElse(null);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, userDetails);
+    }
+}
@@ -0,0 +1,85 @@
+package sn.noreyni.springapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.AuthorDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.UserDto;
+import sn.noreyni.springapi.application.mapper.ArticleMapper;
+import sn.noreyni.springapi.application.mapper.ArticleMapperImpl;
+import sn.noreyni.springapi.application.mapper.CommentMapper;
+import sn.noreyni.springapi.application.mapper.CommentMapperImpl;
+import sn.noreyni.springapi.application.mapper.TagMapperImpl;
+import sn.noreyni.springapi.application.mapper.UserMapper;
+import sn.noreyni.springapi.application.mapper.UserMapperImpl;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.Comment;
+import sn.noreyni.springapi.domain.model.User;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private ArticleMapper articleMapper;
+    private CommentMapper commentMapper;
+    private UserMapper userMapper;
+    private Article article;
+    private ArticleSummary summary;
+    private Comment comment;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        articleMapper = new ArticleMapperImpl();
+        // Injected by Spring in the application
+        ReflectionTestUtils.setField(articleMapper, "tagMapper", new TagMapperImpl());
+        commentMapper = new CommentMapperImpl();
+        userMapper = new UserMapperImpl();
+        article = BenchmarkData.article();
+        summary = BenchmarkData.summary(1);
+        comment = BenchmarkData.comment(1);
+        user = BenchmarkData.user();
+    }
+
+    @Benchmark
+    public ArticleDto articleToDto() {
+        return articleMapper.toDto(article);
+    }
+
+    @Benchmark
+    public ArticleSummaryDto articleToSummaryDto() {
+        return articleMapper.toSummaryDto(summary);
+    }
+
+    @Benchmark
+    public CommentDto commentToDto() {
+        return commentMapper.toDto(comment);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public AuthorDto userToAuthorDto() {
+        return userMapper.toAuthorDto(user);
+    }
+}
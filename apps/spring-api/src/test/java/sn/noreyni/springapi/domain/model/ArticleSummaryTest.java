@@ -0,0 +1,33 @@
+package sn.noreyni.springapi.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSummaryTest {
+
+    @Test
+    void shortContentIsKeptWithCollapsedWhitespace() {
+        assertThat(ArticleSummary.excerptOf("  A short\n\n article\tbody ")).isEqualTo("A short article body");
+    }
+
+    @Test
+    void longContentIsCutAtAWordBoundary() {
+        String excerpt = ArticleSummary.excerptOf("word ".repeat(100));
+
+        assertThat(excerpt).endsWith("word…");
+        assertThat(excerpt.length()).isLessThanOrEqualTo(ArticleSummary.EXCERPT_LENGTH + 1);
+    }
+
+    @Test
+    void contentWithoutSpacesIsCutAtTheLimit() {
+        String excerpt = ArticleSummary.excerptOf("x".repeat(1000));
+
+        assertThat(excerpt).hasSize(ArticleSummary.EXCERPT_LENGTH + 1).endsWith("…");
+    }
+
+    @Test
+    void noContentHasNoExcerpt() {
+        assertThat(ArticleSummary.excerptOf(null)).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package sn.noreyni.springapi.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000), 42L);
+
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.isBackward()).isFalse();
+    }
+
+    @Test
+    void directionSurvivesTheRoundTrip() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 5, 1, 12, 0), 7L);
+
+        assertThat(Cursor.decode(cursor.previous().encode()).isBackward()).isTrue();
+        assertThat(Cursor.decode(cursor.previous().next().encode()).isBackward()).isFalse();
+    }
+
+    @Test
+    void idOnlyCursorHasNoCreationTime() {
+        Cursor decoded = Cursor.decode(Cursor.of(null, 9L).encode());
+
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded.getId()).isEqualTo(9L);
+    }
+
+    @Test
+    void encodingIsUrlSafe() {
+        String token = Cursor.of(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE).previous().encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        String wrongParts = Base64.getUrlEncoder().withoutPadding().encodeToString("a|1".getBytes());
+        String badId = Base64.getUrlEncoder().withoutPadding().encodeToString("a||abc".getBytes());
+
+        assertThatThrownBy(() -> Cursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cursor.decode(wrongParts)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
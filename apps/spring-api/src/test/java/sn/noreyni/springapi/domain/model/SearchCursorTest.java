@@ -0,0 +1,33 @@
+package sn.noreyni.springapi.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripKeepsTheExactRank() {
+        float rank = 0.1f / 3;
+
+        SearchCursor decoded = SearchCursor.decode(SearchCursor.of(rank, 42L).encode());
+
+        assertThat(decoded.getRank()).isEqualTo(rank);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void listCursorIsNotASearchCursor() {
+        String listCursor = Cursor.of(LocalDateTime.of(2024, 5, 1, 12, 0), 42L).encode();
+
+        assertThatThrownBy(() -> SearchCursor.decode(listCursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void garbageIsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
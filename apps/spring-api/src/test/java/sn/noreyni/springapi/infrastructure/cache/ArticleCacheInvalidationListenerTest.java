@@ -0,0 +1,121 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// Two replicas sharing one database: an eviction on one reaches the other over LISTEN/NOTIFY
+@Testcontainers(disabledWithoutDocker = true)
+class ArticleCacheInvalidationListenerTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private final SimpleMeterRegistry listenerMetrics = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ArticleCache sender;
+    private ArticleCache receiver;
+    private ArticleCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcProperties properties = new R2dbcProperties();
+        properties.setUrl("r2dbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/" + POSTGRES.getDatabaseName());
+        properties.setUsername(POSTGRES.getUsername());
+        properties.setPassword(POSTGRES.getPassword());
+        DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get(ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, POSTGRES.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGRES.getPassword())
+                .build()));
+
+        sender = cache(databaseClient, new SimpleMeterRegistry());
+        receiver = cache(databaseClient, listenerMetrics);
+        listener = new ArticleCacheInvalidationListener(receiver,
+                new ArticleLikeIndex(mock(ArticleLikeRepository.class), mock(ArticleRepository.class), 1 << 20, 10),
+                properties);
+        listener.start();
+        // Probe evictions until the receiver hears one, which means it is listening
+        await(() -> {
+            sender.evict(0L).block();
+            return remoteInvalidations() > 0;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void evictionOnOneReplicaDropsTheEntryOnTheOther() {
+        receiver.article(1L, this::load).block();
+
+        sender.evict(1L).block();
+
+        await(() -> {
+            receiver.article(1L, this::load).block();
+            return loads.get() == 2;
+        });
+    }
+
+    @Test
+    void wildcardEvictionClearsTheOtherReplica() {
+        receiver.article(1L, this::load).block();
+        receiver.article(2L, this::load).block();
+
+        sender.evictAll().block();
+
+        await(() -> {
+            receiver.article(1L, this::load).block();
+            receiver.article(2L, this::load).block();
+            return loads.get() == 4;
+        });
+    }
+
+    private static ArticleCache cache(DatabaseClient databaseClient, SimpleMeterRegistry meterRegistry) {
+        return new ArticleCache(databaseClient, new ResponseCache(meterRegistry, true, 1 << 20, 60), meterRegistry, 1 << 20, 60);
+    }
+
+    private Mono<Article> load(Long id) {
+        loads.incrementAndGet();
+        return Mono.just(Article.builder().id(id).title("Title").build());
+    }
+
+    private double remoteInvalidations() {
+        return listenerMetrics.get("article.cache.invalidations").tag("source", "remote").counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
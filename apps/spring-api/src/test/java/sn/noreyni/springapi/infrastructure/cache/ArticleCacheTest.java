@@ -0,0 +1,141 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.domain.model.Article;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleCacheTest {
+    private final ResponseCache responseCache = new ResponseCache(new SimpleMeterRegistry(), true, 1 << 20, 60);
+    private final DatabaseClient databaseClient = mock(DatabaseClient.class);
+    private final ArticleCache cache = new ArticleCache(databaseClient, responseCache,
+            new SimpleMeterRegistry(), 1 << 20, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void flushedViewsMoveTheCachedCopiesWithoutReloading() {
+        cache.article(1L, this::loadArticle).block();
+        cache.detail(1L, this::loadDetail).block();
+        responseCache.put("/api/articles/1", responseCache.generation(), new HttpHeaders(), new byte[]{1}, 1L, true);
+
+        cache.addViews(Map.of(1L, 5L, 2L, 3L));
+
+        assertThat(cache.article(1L, this::loadArticle).block().getViews()).isEqualTo(15);
+        assertThat(cache.detail(1L, this::loadDetail).block().getViews()).isEqualTo(15);
+        assertThat(loads).hasValue(2);
+        assertThat(responseCache.get("/api/articles/1")).isNotNull();
+    }
+
+    @Test
+    void handedOutCopiesAreNotTheCachedOnes() {
+        cache.detail(1L, this::loadDetail).block().setViews(99);
+
+        assertThat(cache.detail(1L, this::loadDetail).block().getViews()).isEqualTo(10);
+    }
+
+    @Test
+    void localInvalidationDropsBothEntriesAndTheResponses() {
+        cache.article(1L, this::loadArticle).block();
+        cache.detail(1L, this::loadDetail).block();
+        responseCache.put("/api/articles", responseCache.generation(), new HttpHeaders(), new byte[]{1}, null, false);
+
+        cache.onRemoteEviction("1");
+
+        cache.article(1L, this::loadArticle).block();
+        cache.detail(1L, this::loadDetail).block();
+        assertThat(loads).hasValue(4);
+        assertThat(responseCache.get("/api/articles")).isNull();
+    }
+
+    @Test
+    void wildcardEvictionClearsEverything() {
+        cache.article(1L, this::loadArticle).block();
+        cache.article(2L, this::loadArticle).block();
+
+        cache.onRemoteEviction("*");
+        cache.onRemoteEviction("not-a-number");
+
+        cache.article(1L, this::loadArticle).block();
+        cache.article(2L, this::loadArticle).block();
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void evictionIsBroadcastToTheOtherReplicas() {
+        DatabaseClient.GenericExecuteSpec notify = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        when(databaseClient.sql("SELECT pg_notify(:channel, :payload)")).thenReturn(notify);
+        when(notify.then()).thenReturn(Mono.empty());
+        cache.article(1L, this::loadArticle).block();
+
+        StepVerifier.create(cache.evict(1L)).verifyComplete();
+
+        verify(notify).bind("channel", ArticleCache.CHANNEL);
+        verify(notify).bind("payload", "1");
+        cache.article(1L, this::loadArticle).block();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedBroadcastStillEvictsLocally() {
+        DatabaseClient.GenericExecuteSpec notify = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        when(databaseClient.sql("SELECT pg_notify(:channel, :payload)")).thenReturn(notify);
+        when(notify.then()).thenReturn(Mono.error(new IllegalStateException("down")));
+        cache.article(1L, this::loadArticle).block();
+
+        StepVerifier.create(cache.evict(1L)).verifyComplete();
+
+        cache.article(1L, this::loadArticle).block();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        Sinks.One<Article> pending = Sinks.one();
+        Mono<Article> first = cache.article(1L, id -> {
+            loads.incrementAndGet();
+            return pending.asMono();
+        });
+        Mono<Article> second = cache.article(1L, this::loadArticle);
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(Article.builder().id(1L).title("Title").build()))
+                .assertNext(both -> assertThat(both.getT1().getTitle()).isEqualTo(both.getT2().getTitle()))
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void missingArticleIsNotCached() {
+        assertThat(cache.article(1L, id -> {
+            loads.incrementAndGet();
+            return Mono.empty();
+        }).block()).isNull();
+
+        cache.article(1L, this::loadArticle).block();
+        assertThat(loads).hasValue(2);
+    }
+
+    private Mono<Article> loadArticle(Long id) {
+        loads.incrementAndGet();
+        return Mono.just(Article.builder().id(id).title("Title").views(10).build());
+    }
+
+    private Mono<ArticleDto> loadDetail(Long id) {
+        loads.incrementAndGet();
+        return Mono.just(ArticleDto.builder().id(id).title("Title").views(10).build());
+    }
+}
@@ -0,0 +1,60 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.repository.ArticleLikeRepository;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleLikeIndexTest {
+    private static final long LARGE_ID = (1L << 32) + 7;
+
+    private final ArticleLikeRepository articleLikeRepository = mock(ArticleLikeRepository.class);
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleLikeIndex index = new ArticleLikeIndex(articleLikeRepository, articleRepository, 1 << 20, 10);
+
+    ArticleLikeIndexTest() {
+        when(articleRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(articleRepository.existsById(2L)).thenReturn(Mono.just(false));
+        when(articleLikeRepository.findUserIdsByArticleId(1L)).thenReturn(Flux.just(5L, LARGE_ID));
+    }
+
+    @Test
+    void answersFromTheLoadedLikers() {
+        StepVerifier.create(index.hasLiked(1L, 5L)).expectNext(true).verifyComplete();
+        StepVerifier.create(index.hasLiked(1L, 6L)).expectNext(false).verifyComplete();
+
+        verify(articleLikeRepository, times(1)).findUserIdsByArticleId(anyLong());
+    }
+
+    @Test
+    void idsBeyondThirtyTwoBitsAreNotTruncated() {
+        StepVerifier.create(index.hasLiked(1L, LARGE_ID)).expectNext(true).verifyComplete();
+        StepVerifier.create(index.hasLiked(1L, 7L)).expectNext(false).verifyComplete();
+        StepVerifier.create(index.hasLiked(1L, LARGE_ID - (1L << 32))).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void localAndRemoteChangesApplyToTheLoadedBitmap() {
+        index.hasLiked(1L, 5L).block();
+
+        index.record(1L, 6L, true);
+        index.onRemoteChange("1,5,0");
+        index.onRemoteChange("malformed");
+
+        StepVerifier.create(index.hasLiked(1L, 6L)).expectNext(true).verifyComplete();
+        StepVerifier.create(index.hasLiked(1L, 5L)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void missingArticleIsEmpty() {
+        StepVerifier.create(index.hasLiked(2L, 5L)).verifyComplete();
+    }
+}
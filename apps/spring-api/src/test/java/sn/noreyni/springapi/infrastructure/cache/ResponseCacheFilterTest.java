@@ -0,0 +1,117 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.infrastructure.counter.ArticleViewCounter;
+import sn.noreyni.springapi.infrastructure.trending.TrendingSignal;
+import sn.noreyni.springapi.infrastructure.trending.TrendingTracker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ResponseCacheFilterTest {
+    private static final String BODY = "{\"id\":1,\"status\":\"PUBLISHED\"}";
+
+    private final ResponseCache responseCache = new ResponseCache(new SimpleMeterRegistry(), true, 1 << 20, 60);
+    private final ArticleViewCounter articleViewCounter = mock(ArticleViewCounter.class);
+    private final TrendingTracker trendingTracker = mock(TrendingTracker.class);
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(responseCache, articleViewCounter, trendingTracker, new ObjectMapper());
+    private final AtomicInteger rendered = new AtomicInteger();
+
+    @Test
+    void missIsRenderedAndStored() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1"));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(responseCache.get("/api/articles/1")).isNotNull();
+        assertThat(responseCache.get("/api/articles/1").isPublished()).isTrue();
+        assertThat(rendered).hasValue(1);
+    }
+
+    @Test
+    void hitIsServedGzippedWithVary() throws IOException {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")), chain()).block();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"));
+
+        filter.filter(exchange, chain()).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(rendered).hasValue(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(headers.getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(new String(ResponseCacheTest.gunzip(bodyOf(exchange)), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        verify(articleViewCounter).increment(1L);
+        verify(trendingTracker).record(1L, TrendingSignal.VIEW);
+    }
+
+    @Test
+    void hitWithoutGzipIsServedAsIs() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")), chain()).block();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(exchange.getResponse().getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(exchange.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    void articleChangeMakesTheNextRequestRenderAgain() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")), chain()).block();
+
+        responseCache.invalidateArticle(1L);
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")), chain()).block();
+
+        assertThat(rendered).hasValue(2);
+    }
+
+    @Test
+    void authenticatedAndLaterPagesBypassTheCache() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")), chain()).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles?page=2")), chain()).block();
+
+        assertThat(responseCache.get("/api/articles/1")).isNull();
+        assertThat(responseCache.get("/api/articles?page=2")).isNull();
+        verify(articleViewCounter, never()).increment(1L);
+    }
+
+    private WebFilterChain chain() {
+        return exchange -> {
+            rendered.incrementAndGet();
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(
+                    exchange.getResponse().bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static byte[] bodyOf(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+}
@@ -0,0 +1,77 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+    private static final byte[] BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final ResponseCache cache = new ResponseCache(new SimpleMeterRegistry(), true, 1 << 20, 60);
+
+    @Test
+    void keepsBothEncodingsOfTheBody() throws IOException {
+        put("/api/articles/1", 1L);
+
+        ResponseCache.CachedResponse cached = cache.get("/api/articles/1");
+        assertThat(cached.getIdentity()).isEqualTo(BODY);
+        assertThat(gunzip(cached.getGzip())).isEqualTo(BODY);
+    }
+
+    @Test
+    void articleChangeEvictsItsDetailsAndEveryList() {
+        put("/api/articles/1", 1L);
+        put("/api/articles/2", 2L);
+        put("/api/articles", null);
+        put("/api/articles?tag=java", null);
+
+        cache.invalidateArticle(1L);
+
+        assertThat(cache.get("/api/articles/1")).isNull();
+        assertThat(cache.get("/api/articles")).isNull();
+        assertThat(cache.get("/api/articles?tag=java")).isNull();
+        assertThat(cache.get("/api/articles/2")).isNotNull();
+    }
+
+    @Test
+    void responseRenderedAcrossAnInvalidationIsNotStored() {
+        long renderedAt = cache.generation();
+        cache.invalidateArticle(1L);
+
+        cache.put("/api/articles/1", renderedAt, new HttpHeaders(), BODY, 1L, true);
+
+        assertThat(cache.get("/api/articles/1")).isNull();
+    }
+
+    @Test
+    void clearDropsEverything() {
+        put("/api/articles/1", 1L);
+        put("/api/articles", null);
+
+        cache.clear();
+
+        assertThat(cache.get("/api/articles/1")).isNull();
+        assertThat(cache.get("/api/articles")).isNull();
+    }
+
+    private void put(String key, Long articleId) {
+        cache.put(key, cache.generation(), new HttpHeaders(), BODY, articleId, true);
+    }
+
+    static byte[] gunzip(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package sn.noreyni.springapi.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TotalCountCacheTest {
+    private static final long EXACT_THRESHOLD = 1000;
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TotalCountCache cache = new TotalCountCache(articleRepository, userRepository, true, EXACT_THRESHOLD);
+
+    @Test
+    void largeTableUsesThePlannerEstimate() {
+        when(articleRepository.estimateCount()).thenReturn(Mono.just(250_000L));
+
+        StepVerifier.create(cache.articleCount()).expectNext(250_000L).verifyComplete();
+
+        verify(articleRepository, never()).count();
+    }
+
+    @Test
+    void smallTableIsCountedExactly() {
+        // Estimates are coarse on small or freshly loaded tables, where a real count is cheap anyway
+        when(userRepository.estimateCount()).thenReturn(Mono.just(EXACT_THRESHOLD - 1));
+        when(userRepository.count()).thenReturn(Mono.just(42L));
+
+        StepVerifier.create(cache.userCount()).expectNext(42L).verifyComplete();
+    }
+
+    @Test
+    void totalIsLoadedOnceAndThenServedFromMemory() {
+        when(articleRepository.estimateCount()).thenReturn(Mono.just(250_000L));
+
+        cache.articleCount().block();
+        StepVerifier.create(cache.articleCount()).expectNext(250_000L).verifyComplete();
+
+        verify(articleRepository, times(1)).estimateCount();
+    }
+
+    @Test
+    void refreshSwitchesToTheExactCountWhenTheTableShrinks() {
+        when(articleRepository.estimateCount()).thenReturn(Mono.just(250_000L), Mono.just(10L));
+        when(articleRepository.count()).thenReturn(Mono.just(12L));
+        when(userRepository.estimateCount()).thenReturn(Mono.just(5000L));
+        cache.articleCount().block();
+
+        cache.refresh();
+
+        StepVerifier.create(cache.articleCount()).expectNext(12L).verifyComplete();
+    }
+
+    @Test
+    void failedRefreshKeepsTheLastTotal() {
+        when(articleRepository.estimateCount()).thenReturn(Mono.just(250_000L), Mono.error(new IllegalStateException("down")));
+        when(userRepository.estimateCount()).thenReturn(Mono.just(5000L));
+        cache.articleCount().block();
+
+        cache.refresh();
+
+        StepVerifier.create(cache.articleCount()).expectNext(250_000L).verifyComplete();
+    }
+
+    @Test
+    void disabledCacheNeverRefreshes() {
+        new TotalCountCache(articleRepository, userRepository, false, EXACT_THRESHOLD).refresh();
+
+        verifyNoInteractions(articleRepository, userRepository);
+    }
+}
@@ -0,0 +1,104 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import sn.noreyni.springapi.infrastructure.persistence.repository.PostgresTestDatabase;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class SyntheticDataGeneratorTest {
+    private static final int USERS = 20;
+    private static final int TAGS = 5;
+    private static final int ARTICLES = 50;
+    private static final int COMMENTS = 200;
+    private static final int LIKES = 300;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static DatabaseClient databaseClient;
+
+    @BeforeAll
+    static void migrate() {
+        databaseClient = DatabaseClient.create(PostgresTestDatabase.migrate(POSTGRES));
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+    }
+
+    @Test
+    void generatesTheConfiguredRowsWithConsistentCounters() {
+        generator(42, 4).run();
+
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(USERS);
+        assertThat(count("SELECT COUNT(*) FROM tags")).isEqualTo(TAGS);
+        assertThat(count("SELECT COUNT(*) FROM articles")).isEqualTo(ARTICLES);
+        assertThat(count("SELECT COUNT(*) FROM comments")).isEqualTo(COMMENTS);
+        assertThat(count("SELECT COUNT(*) FROM article_likes")).isBetween(1L, (long) LIKES);
+        assertThat(count("SELECT COUNT(*) FROM articles a WHERE a.likes <> (SELECT COUNT(*) FROM article_likes l WHERE l.article_id = a.id)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM articles a WHERE a.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.article_id = a.id)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM tags t WHERE t.article_count <> (SELECT COUNT(*) FROM article_tags at WHERE at.tag_id = t.id)")).isZero();
+        // Sequences continue after the generated ids
+        assertThat(PostgresTestDatabase.insertUser(databaseClient, "late")).isEqualTo(USERS + 1L);
+    }
+
+    @Test
+    void sameSeedGivesTheSameDataWhateverTheConcurrency() {
+        generator(42, 4).run();
+        String first = fingerprint();
+
+        PostgresTestDatabase.truncate(databaseClient).block();
+        generator(42, 1).run();
+
+        assertThat(fingerprint()).isEqualTo(first);
+
+        PostgresTestDatabase.truncate(databaseClient).block();
+        generator(7, 4).run();
+
+        assertThat(fingerprint()).isNotEqualTo(first);
+    }
+
+    @Test
+    void skipsADatabaseThatAlreadyHasUsers() {
+        PostgresTestDatabase.insertUser(databaseClient, "existing");
+
+        generator(42, 4).run();
+
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM articles")).isZero();
+    }
+
+    private static SyntheticDataGenerator generator(long seed, int concurrency) {
+        return new SyntheticDataGenerator(databaseClient, new BCryptPasswordEncoder(4), seed,
+                USERS, TAGS, ARTICLES, COMMENTS, LIKES, 1.1, 16, concurrency,
+                LocalDateTime.of(2026, 1, 1, 0, 0), 30);
+    }
+
+    private static long count(String sql) {
+        return databaseClient.sql(sql)
+                .map((row, rowMetadata) -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    private static String fingerprint() {
+        return databaseClient.sql("SELECT (SELECT md5(string_agg(id || ':' || author_id || ':' || title || ':' || views || ':' || created_at, ',' ORDER BY id)) FROM articles)"
+                        + " || (SELECT md5(string_agg(article_id || ':' || tag_id, ',' ORDER BY article_id, tag_id)) FROM article_tags)"
+                        + " || (SELECT md5(string_agg(id || ':' || article_id || ':' || author_id, ',' ORDER BY id)) FROM comments)"
+                        + " || (SELECT md5(string_agg(article_id || ':' || user_id, ',' ORDER BY article_id, user_id)) FROM article_likes) AS digest")
+                .map((row, rowMetadata) -> row.get("digest", String.class))
+                .one()
+                .block();
+    }
+}
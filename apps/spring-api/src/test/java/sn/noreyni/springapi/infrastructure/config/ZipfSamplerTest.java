@@ -0,0 +1,51 @@
+package sn.noreyni.springapi.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfSamplerTest {
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void ranksFollowTheZipfWeights() {
+        ZipfSampler sampler = new ZipfSampler(10, 1);
+        int[] counts = new int[11];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // Harmonic number H(10): rank r is drawn with probability 1 / (r * H(10))
+        double harmonic = 2.9289682539682538;
+        assertThat(counts[0]).isZero();
+        assertThat((double) counts[1] / SAMPLES).isCloseTo(1 / harmonic, within(0.01));
+        assertThat((double) counts[2] / SAMPLES).isCloseTo(1 / (2 * harmonic), within(0.01));
+        assertThat((double) counts[10] / SAMPLES).isCloseTo(1 / (10 * harmonic), within(0.01));
+    }
+
+    @Test
+    void sameSeedDrawsTheSameRanks() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (int i = 0; i < 1000; i++) {
+            int rank = sampler.sample(first);
+            assertThat(rank).isBetween(1, 1000).isEqualTo(sampler.sample(second));
+        }
+    }
+
+    @Test
+    void singleRankIsAlwaysDrawn() {
+        ZipfSampler sampler = new ZipfSampler(1, 1.1);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(random)).isEqualTo(1);
+        }
+    }
+}
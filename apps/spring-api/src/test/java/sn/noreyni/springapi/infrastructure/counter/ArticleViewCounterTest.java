@@ -0,0 +1,55 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ArticleViewCounterTest {
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleCache articleCache = mock(ArticleCache.class);
+    private final ArticleViewCounter counter = new ArticleViewCounter(articleRepository, articleCache);
+
+    @Test
+    void flushPersistsAllViewsInOneBatchAndMovesTheCachedCounts() {
+        when(articleRepository.incrementViews(any())).thenReturn(Mono.empty());
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        StepVerifier.create(counter.flush()).verifyComplete();
+
+        verify(articleRepository).incrementViews(Map.of(1L, 2L, 2L, 1L));
+        verify(articleCache).addViews(Map.of(1L, 2L, 2L, 1L));
+        assertThat(counter.pending(1L)).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsTheViewsForTheNextOne() {
+        when(articleRepository.incrementViews(any())).thenReturn(Mono.error(new IllegalStateException("down")));
+        counter.increment(1L);
+
+        StepVerifier.create(counter.flush()).verifyComplete();
+
+        assertThat(counter.pending(1L)).isEqualTo(1);
+        verify(articleCache, never()).addViews(any());
+    }
+
+    @Test
+    void nothingPendingWritesNothing() {
+        StepVerifier.create(counter.flush()).verifyComplete();
+
+        verifyNoInteractions(articleRepository, articleCache);
+    }
+}
@@ -0,0 +1,57 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.model.CountRepair;
+import sn.noreyni.springapi.domain.repository.ArticleRepository;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentCountReconcilerTest {
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final CommentCountReconciler reconciler = new CommentCountReconciler(articleRepository, 2);
+
+    @Test
+    void walksBatchesFromEachLastIdAndSumsTheRepairs() {
+        when(articleRepository.repairCommentCounts(0L, 2)).thenReturn(batch(2L, 1));
+        when(articleRepository.repairCommentCounts(2L, 2)).thenReturn(batch(5L, 0));
+        when(articleRepository.repairCommentCounts(5L, 2)).thenReturn(batch(6L, 2));
+        when(articleRepository.repairCommentCounts(6L, 2)).thenReturn(batch(null, 0));
+
+        StepVerifier.create(reconciler.reconcile())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(articleRepository).repairCommentCounts(6L, 2);
+    }
+
+    @Test
+    void emptyTableStopsAfterOneBatch() {
+        when(articleRepository.repairCommentCounts(0L, 2)).thenReturn(batch(null, 0));
+
+        StepVerifier.create(reconciler.reconcile())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(articleRepository).repairCommentCounts(anyLong(), anyInt());
+    }
+
+    @Test
+    void failedBatchStopsTheRunWithoutEscapingTheSchedule() {
+        when(articleRepository.repairCommentCounts(0L, 2)).thenReturn(batch(2L, 1));
+        when(articleRepository.repairCommentCounts(2L, 2)).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        reconciler.scheduledReconcile();
+
+        verify(articleRepository).repairCommentCounts(2L, 2);
+    }
+
+    private static Mono<CountRepair> batch(Long lastId, long repaired) {
+        return Mono.just(CountRepair.builder().lastId(lastId).repaired(repaired).build());
+    }
+}
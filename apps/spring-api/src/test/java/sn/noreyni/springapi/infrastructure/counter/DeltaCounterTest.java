@@ -0,0 +1,84 @@
+package sn.noreyni.springapi.infrastructure.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaCounterTest {
+
+    @Test
+    void drainReturnsAccumulatedDeltasAndStartsOver() {
+        DeltaCounter counter = new DeltaCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5);
+
+        assertThat(counter.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 5L));
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    void restoredDeltasAreDrainedAgain() {
+        DeltaCounter counter = new DeltaCounter();
+        counter.add(1L, 3);
+        Map<Long, Long> drained = counter.drain();
+        counter.increment(1L);
+
+        counter.restore(drained);
+
+        assertThat(counter.pending(1L)).isEqualTo(4);
+        assertThat(counter.drain()).containsExactlyEntriesOf(Map.of(1L, 4L));
+    }
+
+    @Test
+    void noIncrementIsLostWhileDrainingConcurrently() throws Exception {
+        DeltaCounter counter = new DeltaCounter();
+        int writers = 8;
+        int incrementsPerWriter = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Map<Long, Long> flushed = new HashMap<>();
+        try {
+            Future<?>[] futures = new Future<?>[writers];
+            for (int i = 0; i < writers; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < incrementsPerWriter; n++) {
+                        counter.increment((long) (n % 4));
+                    }
+                    return null;
+                });
+            }
+            Thread drainer = new Thread(() -> {
+                while (writing.get()) {
+                    counter.drain().forEach((key, delta) -> flushed.merge(key, delta, Long::sum));
+                }
+            });
+            drainer.start();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            drainer.join();
+        } finally {
+            executor.shutdownNow();
+        }
+        counter.drain().forEach((key, delta) -> flushed.merge(key, delta, Long::sum));
+
+        long expectedPerKey = (long) writers * incrementsPerWriter / 4;
+        assertThat(flushed).containsExactlyInAnyOrderEntriesOf(
+                Map.of(0L, expectedPerKey, 1L, expectedPerKey, 2L, expectedPerKey, 3L, expectedPerKey));
+    }
+}
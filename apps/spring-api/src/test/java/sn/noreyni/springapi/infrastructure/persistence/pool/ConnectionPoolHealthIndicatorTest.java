@@ -0,0 +1,82 @@
+package sn.noreyni.springapi.infrastructure.persistence.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionPoolHealthIndicatorTest {
+    private final ConnectionPools connectionPools = mock(ConnectionPools.class);
+    private final ConnectionPoolHealthIndicator indicator = new ConnectionPoolHealthIndicator(connectionPools);
+
+    @Test
+    void downUntilEveryPoolIsWarmedUp() {
+        ConnectionPool primary = pool(Mono.just(2));
+        ConnectionPool replica = pool(Mono.never());
+        when(connectionPools.pools()).thenReturn(Map.of("primary", primary, "replica", replica));
+
+        assertThat(indicator.health().block().getStatus()).isEqualTo(Status.DOWN);
+
+        indicator.warmUp();
+
+        Health health = indicator.health().block();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails().get("primary")).isEqualTo(Map.of(
+                "warmedUp", true, "acquired", 1, "idle", 2, "pending", 0, "max", 10));
+        assertThat(health.getDetails().get("replica")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("warmedUp", false);
+    }
+
+    @Test
+    void upOnceAllPoolsAreWarmedUp() {
+        ConnectionPool primary = pool(Mono.just(2));
+        when(connectionPools.pools()).thenReturn(Map.of("primary", primary));
+
+        indicator.warmUp();
+
+        assertThat(indicator.health().block().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void failedWarmUpIsRetried() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        ConnectionPool primary = pool(Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("database not up yet"))
+                : Mono.just(2)));
+        when(connectionPools.pools()).thenReturn(Map.of("primary", primary));
+
+        indicator.warmUp();
+
+        assertThat(indicator.health().block().getStatus()).isEqualTo(Status.DOWN);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (indicator.health().block().getStatus() != Status.UP && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(indicator.health().block().getStatus()).isEqualTo(Status.UP);
+        assertThat(attempts).hasValue(2);
+    }
+
+    private static ConnectionPool pool(Mono<Integer> warmup) {
+        ConnectionPool pool = mock(ConnectionPool.class);
+        PoolMetrics metrics = mock(PoolMetrics.class);
+        when(metrics.acquiredSize()).thenReturn(1);
+        when(metrics.idleSize()).thenReturn(2);
+        when(metrics.pendingAcquireSize()).thenReturn(0);
+        when(metrics.getMaxAllocatedSize()).thenReturn(10);
+        when(pool.getMetrics()).thenReturn(Optional.of(metrics));
+        when(pool.warmup()).thenReturn(warmup);
+        return pool;
+    }
+}
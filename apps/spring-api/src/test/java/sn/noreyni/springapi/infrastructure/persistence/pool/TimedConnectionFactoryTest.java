@@ -0,0 +1,39 @@
+package sn.noreyni.springapi.infrastructure.persistence.pool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedConnectionFactoryTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionPool pool = mock(ConnectionPool.class);
+    private final TimedConnectionFactory connectionFactory = new TimedConnectionFactory("primary", pool, meterRegistry);
+
+    @Test
+    void acquisitionsAreTimedByOutcome() {
+        when(pool.create())
+                .thenReturn(Mono.just(mock(Connection.class)))
+                .thenReturn(Mono.error(new R2dbcTimeoutException("max-acquire-time")))
+                .thenReturn(Mono.error(new IllegalStateException("refused")));
+
+        StepVerifier.create(connectionFactory.create()).expectNextCount(1).verifyComplete();
+        StepVerifier.create(connectionFactory.create()).expectError(R2dbcTimeoutException.class).verify();
+        StepVerifier.create(connectionFactory.create()).expectError(IllegalStateException.class).verify();
+
+        assertThat(count("success")).isEqualTo(1);
+        assertThat(count("timeout")).isEqualTo(1);
+        assertThat(count("error")).isEqualTo(1);
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("r2dbc.pool.acquire").tag("name", "primary").tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,167 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.model.LikeResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ArticleLikeRepositoryImplTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static DatabaseClient databaseClient;
+    private ArticleLikeRepositoryImpl repository;
+    private Long articleId;
+
+    @BeforeAll
+    static void migrate() {
+        databaseClient = DatabaseClient.create(PostgresTestDatabase.migrate(POSTGRES));
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+        repository = new ArticleLikeRepositoryImpl(databaseClient);
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        articleId = PostgresTestDatabase.insertArticle(databaseClient, author, "Liked");
+    }
+
+    @Test
+    void likingTwiceCountsOnce() {
+        Long user = PostgresTestDatabase.insertUser(databaseClient, "reader");
+
+        StepVerifier.create(repository.like(articleId, user))
+                .assertNext(result -> {
+                    assertThat(result.isChanged()).isTrue();
+                    assertThat(result.getLikes()).isEqualTo(1);
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.like(articleId, user))
+                .assertNext(result -> {
+                    assertThat(result.isChanged()).isFalse();
+                    assertThat(result.getLikes()).isEqualTo(1);
+                })
+                .verifyComplete();
+        assertThat(storedLikes()).isEqualTo(1);
+    }
+
+    @Test
+    void unlikingOnlyCountsAnExistingLike() {
+        Long user = PostgresTestDatabase.insertUser(databaseClient, "reader");
+        repository.like(articleId, user).block();
+
+        StepVerifier.create(repository.unlike(articleId, user))
+                .assertNext(result -> {
+                    assertThat(result.isChanged()).isTrue();
+                    assertThat(result.getLikes()).isZero();
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.unlike(articleId, user))
+                .assertNext(result -> {
+                    assertThat(result.isChanged()).isFalse();
+                    assertThat(result.getLikes()).isZero();
+                })
+                .verifyComplete();
+        assertThat(storedLikes()).isZero();
+    }
+
+    @Test
+    void concurrentLikesMatchTheLikeRows() {
+        List<Long> users = IntStream.range(0, 50)
+                .mapToObj(i -> PostgresTestDatabase.insertUser(databaseClient, "reader" + i))
+                .toList();
+
+        List<LikeResult> results = Flux.fromIterable(users)
+                .flatMap(user -> Flux.concat(repository.like(articleId, user), repository.like(articleId, user)), 16)
+                .collectList()
+                .block();
+
+        assertThat(results).filteredOn(LikeResult::isChanged).hasSize(users.size());
+        assertThat(storedLikes()).isEqualTo(users.size());
+        assertThat(databaseClient.sql("SELECT COUNT(*) AS total FROM article_likes WHERE article_id = :articleId")
+                .bind("articleId", articleId)
+                .map((row, rowMetadata) -> row.get("total", Long.class))
+                .one()
+                .block()).isEqualTo(users.size());
+    }
+
+    @Test
+    void foldMovesTheShardsIntoTheArticle() {
+        List<Long> users = IntStream.range(0, 5)
+                .mapToObj(i -> PostgresTestDatabase.insertUser(databaseClient, "reader" + i))
+                .toList();
+        users.forEach(user -> repository.like(articleId, user).block());
+        repository.unlike(articleId, users.get(0)).block();
+
+        StepVerifier.create(repository.foldCounts())
+                .assertNext(folded -> assertThat(folded).containsExactlyEntriesOf(Map.of(articleId, 4L)))
+                .verifyComplete();
+        assertThat(foldedLikes()).isEqualTo(4);
+        assertThat(storedLikes()).isEqualTo(4);
+        StepVerifier.create(repository.foldCounts())
+                .assertNext(folded -> assertThat(folded).isEmpty())
+                .verifyComplete();
+
+        StepVerifier.create(repository.like(articleId, users.get(0)))
+                .assertNext(result -> assertThat(result.getLikes()).isEqualTo(5))
+                .verifyComplete();
+    }
+
+    @Test
+    void togglesLeaveTheArticleRowAlone() {
+        Long user = PostgresTestDatabase.insertUser(databaseClient, "reader");
+
+        repository.like(articleId, user).block();
+
+        assertThat(foldedLikes()).isZero();
+        assertThat(storedLikes()).isEqualTo(1);
+    }
+
+    @Test
+    void unlikingAMissingArticleIsEmpty() {
+        Long user = PostgresTestDatabase.insertUser(databaseClient, "reader");
+
+        StepVerifier.create(repository.unlike(articleId + 1, user))
+                .verifyComplete();
+    }
+
+    @Test
+    void likingAMissingArticleFails() {
+        Long user = PostgresTestDatabase.insertUser(databaseClient, "reader");
+
+        StepVerifier.create(repository.like(articleId + 1, user))
+                .verifyError(DataIntegrityViolationException.class);
+    }
+
+    // The article's count including the deltas not folded yet
+    private int storedLikes() {
+        return databaseClient.sql("SELECT (likes + COALESCE((SELECT SUM(delta) FROM article_like_deltas WHERE article_id = :id), 0))::int AS likes FROM articles WHERE id = :id")
+                .bind("id", articleId)
+                .map((row, rowMetadata) -> row.get("likes", Integer.class))
+                .one()
+                .block();
+    }
+
+    private int foldedLikes() {
+        return databaseClient.sql("SELECT likes FROM articles WHERE id = :id")
+                .bind("id", articleId)
+                .map((row, rowMetadata) -> row.get("likes", Integer.class))
+                .one()
+                .block();
+    }
+}
@@ -0,0 +1,54 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sn.noreyni.springapi.benchmark.BenchmarkData;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.infrastructure.persistence.entity.ArticleEntity;
+import sn.noreyni.springapi.infrastructure.persistence.entity.TagEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Row to domain conversion, in the package so it can reach the package-private converters
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleRepositoryImplBenchmark {
+    private ArticleRepositoryImpl repository;
+    private ArticleRepositoryImpl.ArticleEntityWithTags row;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        // The converters touch none of the collaborators
+        repository = new ArticleRepositoryImpl(null, null, null, null, null, null);
+        article = BenchmarkData.article();
+        ArticleEntity entity = repository.toEntity(article);
+        List<TagEntity> tags = article.getTags().stream()
+                .map(tag -> new TagEntity(tag.getId(), tag.getName()))
+                .toList();
+        row = new ArticleRepositoryImpl.ArticleEntityWithTags(entity, tags);
+    }
+
+    @Benchmark
+    public Article toDomain() {
+        return repository.toDomain(row);
+    }
+
+    @Benchmark
+    public ArticleEntity toEntity() {
+        return repository.toEntity(article);
+    }
+}
@@ -0,0 +1,377 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import sn.noreyni.springapi.domain.model.Article;
+import sn.noreyni.springapi.domain.model.ArticleSearchCriteria;
+import sn.noreyni.springapi.domain.model.ArticleSearchHit;
+import sn.noreyni.springapi.domain.model.ArticleStatus;
+import sn.noreyni.springapi.domain.model.ArticleSummary;
+import sn.noreyni.springapi.domain.model.CountRepair;
+import sn.noreyni.springapi.domain.model.Cursor;
+import sn.noreyni.springapi.domain.model.SearchCursor;
+import sn.noreyni.springapi.domain.model.Tag;
+import sn.noreyni.springapi.infrastructure.cache.ArticleCache;
+import sn.noreyni.springapi.infrastructure.cache.ResponseCache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ArticleRepositoryImplTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static ConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private ArticleRepositoryImpl repository;
+
+    @BeforeAll
+    static void migrate() {
+        connectionFactory = PostgresTestDatabase.migrate(POSTGRES);
+        databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(template);
+        ResponseCache responseCache = new ResponseCache(meterRegistry, true, 1 << 20, 10);
+        repository = new ArticleRepositoryImpl(
+                factory.getRepository(R2dbcArticleRepository.class),
+                factory.getRepository(R2dbcTagRepository.class),
+                databaseClient,
+                template.getConverter(),
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                new ArticleCache(databaseClient, responseCache, meterRegistry, 1 << 20, 60));
+    }
+
+    @Test
+    void streamAllAttachesEachArticleItsOwnTags() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long java = PostgresTestDatabase.insertTag(databaseClient, "java");
+        Long spring = PostgresTestDatabase.insertTag(databaseClient, "spring");
+        Long both = PostgresTestDatabase.insertArticle(databaseClient, author, "Both");
+        Long onlyJava = PostgresTestDatabase.insertArticle(databaseClient, author, "Java");
+        Long untagged = PostgresTestDatabase.insertArticle(databaseClient, author, "None");
+        PostgresTestDatabase.tag(databaseClient, both, java);
+        PostgresTestDatabase.tag(databaseClient, both, spring);
+        PostgresTestDatabase.tag(databaseClient, onlyJava, java);
+
+        List<Article> articles = repository.streamAll().collectList().block();
+
+        assertThat(articles).extracting(Article::getId).containsExactly(both, onlyJava, untagged);
+        Map<Long, List<String>> tags = articles.stream()
+                .collect(Collectors.toMap(Article::getId, article -> article.getTags().stream().map(Tag::getName).sorted().toList()));
+        assertThat(tags.get(both)).containsExactly("java", "spring");
+        assertThat(tags.get(onlyJava)).containsExactly("java");
+        assertThat(tags.get(untagged)).isEmpty();
+    }
+
+    @Test
+    void streamAllKeepsTagsAlignedAcrossExportBatches() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag even = tag("even");
+        Tag odd = tag("odd");
+        // More rows than two export batches, with the last batch partly filled
+        List<Long> ids = repository.insertAll(IntStream.range(0, 450)
+                .mapToObj(i -> article(author, null, List.of(i % 2 == 0 ? even : odd)))
+                .toList()).block();
+
+        List<Article> articles = repository.streamAll().collectList().block();
+
+        assertThat(articles).extracting(Article::getId).containsExactlyElementsOf(ids);
+        for (int i = 0; i < articles.size(); i++) {
+            assertThat(articles.get(i).getTags()).extracting(Tag::getName).containsExactly(i % 2 == 0 ? "even" : "odd");
+        }
+    }
+
+    @Test
+    void findByIdLoadsTheArticleTags() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long java = PostgresTestDatabase.insertTag(databaseClient, "java");
+        Long article = PostgresTestDatabase.insertArticle(databaseClient, author, "Tagged");
+        PostgresTestDatabase.tag(databaseClient, article, java);
+
+        Article found = repository.findById(article).block();
+
+        assertThat(found).isNotNull();
+        assertThat(found.getTags()).extracting(Tag::getName).containsExactly("java");
+    }
+
+    @Test
+    void cursorPagingWalksArticlesCreatedAtTheSameInstant() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        LocalDateTime instant = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Long oldest = PostgresTestDatabase.insertArticle(databaseClient, author, "Oldest", instant.minusHours(1));
+        Long first = PostgresTestDatabase.insertArticle(databaseClient, author, "First", instant);
+        Long second = PostgresTestDatabase.insertArticle(databaseClient, author, "Second", instant);
+        Long third = PostgresTestDatabase.insertArticle(databaseClient, author, "Third", instant);
+        Long newest = PostgresTestDatabase.insertArticle(databaseClient, author, "Newest", instant.plusHours(1));
+
+        assertThat(ids(repository.findAllByCursor(null, 2))).containsExactly(newest, third);
+        assertThat(ids(repository.findAllByCursor(Cursor.of(instant, third), 2))).containsExactly(second, first);
+        assertThat(ids(repository.findAllByCursor(Cursor.of(instant, first), 2))).containsExactly(oldest);
+        // Back from the second page lands on the first one, still newest first
+        assertThat(ids(repository.findAllByCursor(Cursor.of(instant, second).previous(), 2))).containsExactly(newest, third);
+    }
+
+    @Test
+    void incrementViewsAddsEachArticleItsOwnDelta() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long read = PostgresTestDatabase.insertArticle(databaseClient, author, "Read");
+        Long hot = PostgresTestDatabase.insertArticle(databaseClient, author, "Hot");
+        Long unread = PostgresTestDatabase.insertArticle(databaseClient, author, "Unread");
+
+        repository.incrementViews(Map.of(read, 2L, hot, 40L)).block();
+        repository.incrementViews(Map.of(hot, 2L)).block();
+
+        assertThat(column("views", read)).isEqualTo(2);
+        assertThat(column("views", hot)).isEqualTo(42);
+        assertThat(column("views", unread)).isZero();
+    }
+
+    @Test
+    void pageCarriesTheTotalOfAllArticles() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        for (int i = 0; i < 5; i++) {
+            PostgresTestDatabase.insertArticle(databaseClient, author, "Article " + i);
+        }
+
+        Page<ArticleSummary> page = repository.findPage(PageRequest.of(1, 2)).block();
+        // Past the last row there is no window to read the total from, it is counted instead
+        Page<ArticleSummary> pastEnd = repository.findPage(PageRequest.of(5, 2)).block();
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(pastEnd.getContent()).isEmpty();
+        assertThat(pastEnd.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void saveAppliesOnlyTheTagDifferenceAndKeepsTagCounts() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag java = tag("java");
+        Tag spring = tag("spring");
+        Tag reactor = tag("reactor");
+        Article created = repository.save(article(author, null, List.of(java, spring))).block();
+
+        assertThat(tagNames(created.getId())).containsExactly("java", "spring");
+        assertThat(articleCount(java)).isEqualTo(1);
+        assertThat(articleCount(spring)).isEqualTo(1);
+
+        Article updated = repository.save(article(author, created.getId(), List.of(spring, reactor))).block();
+
+        assertThat(updated.getTags()).extracting(Tag::getName).containsExactlyInAnyOrder("spring", "reactor");
+        assertThat(tagNames(created.getId())).containsExactly("reactor", "spring");
+        assertThat(articleCount(java)).isZero();
+        assertThat(articleCount(spring)).isEqualTo(1);
+        assertThat(articleCount(reactor)).isEqualTo(1);
+    }
+
+    @Test
+    void tagChangesMoveTheContentVersionAndUnchangedTagsDoNot() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag java = tag("java");
+        Tag spring = tag("spring");
+        Long id = repository.save(article(author, null, List.of(java))).block().getId();
+        int initial = column("content_version", id);
+
+        repository.save(article(author, id, List.of(java))).block();
+        assertThat(column("content_version", id)).isEqualTo(initial);
+
+        repository.save(article(author, id, List.of(java, spring))).block();
+        assertThat(column("content_version", id)).isGreaterThan(initial);
+    }
+
+    @Test
+    void listsCarryTheStoredExcerptInsteadOfTheBody() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        String body = "Long body ".repeat(200);
+        Long saved = repository.save(article(author, null, List.of()).toBuilder().content(body).build()).block().getId();
+        Long imported = repository.insertAll(List.of(article(author, null, List.of()).toBuilder().content(body).build())).block().get(0);
+
+        List<ArticleSummary> summaries = repository.findPage(PageRequest.of(0, 10)).block().getContent();
+
+        assertThat(summaries).extracting(ArticleSummary::getId).containsExactlyInAnyOrder(saved, imported);
+        assertThat(summaries).extracting(ArticleSummary::getExcerpt).containsOnly(ArticleSummary.excerptOf(body));
+    }
+
+    @Test
+    void searchPagesThroughEqualRanksWithoutSkippingOrRepeating() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(PostgresTestDatabase.insertArticle(databaseClient, author, "Reactive streams"));
+        }
+        PostgresTestDatabase.insertArticle(databaseClient, author, "Unrelated");
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.builder().query("reactive").build();
+
+        List<Long> found = new ArrayList<>();
+        SearchCursor after = null;
+        do {
+            List<ArticleSearchHit> hits = repository.search(criteria, after, 2).collectList().block();
+            hits.forEach(hit -> found.add(hit.getArticle().getId()));
+            ArticleSearchHit last = hits.isEmpty() ? null : hits.get(hits.size() - 1);
+            after = hits.size() < 2 ? null : SearchCursor.of(last.getRank(), last.getArticle().getId());
+        } while (after != null);
+
+        // Every hit has the same rank, so the id alone orders them
+        assertThat(found).containsExactlyElementsOf(ids.reversed());
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirstAndAppliesFilters() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag java = tag("java");
+        Long inContent = repository.save(article(author, null, List.of(java)).toBuilder()
+                .title("Notes").content("Postgres tuning notes").status(ArticleStatus.PUBLISHED).build()).block().getId();
+        Long inTitle = repository.save(article(author, null, List.of()).toBuilder()
+                .title("Postgres").content("Notes").status(ArticleStatus.PUBLISHED).build()).block().getId();
+        repository.save(article(author, null, List.of(java)).toBuilder().title("Postgres draft").build()).block();
+
+        List<Long> published = repository.search(ArticleSearchCriteria.builder().query("postgres").status(ArticleStatus.PUBLISHED).build(), null, 10)
+                .map(hit -> hit.getArticle().getId())
+                .collectList()
+                .block();
+        List<Long> publishedJava = repository.search(ArticleSearchCriteria.builder().query("postgres").status(ArticleStatus.PUBLISHED).tag("java").build(), null, 10)
+                .map(hit -> hit.getArticle().getId())
+                .collectList()
+                .block();
+
+        assertThat(published).containsExactly(inTitle, inContent);
+        assertThat(publishedJava).containsExactly(inContent);
+    }
+
+    @Test
+    void tagListingPagesThroughTheTaggedArticlesOnly() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag java = tag("java");
+        Tag go = tag("go");
+        Long first = repository.save(article(author, null, List.of(java))).block().getId();
+        repository.save(article(author, null, List.of(go))).block();
+        Long second = repository.save(article(author, null, List.of(java, go))).block().getId();
+        Long third = repository.save(article(author, null, List.of(java))).block().getId();
+
+        assertThat(ids(repository.findAllByTagAndCursor("java", null, 2))).containsExactly(third, second);
+        assertThat(ids(repository.findAllByTagAndCursor("java", Cursor.of(null, second), 2))).containsExactly(first);
+        assertThat(ids(repository.findAllByTagAndCursor("java", Cursor.of(null, first).previous(), 2))).containsExactly(third, second);
+        assertThat(ids(repository.findAllByTagAndCursor("missing", null, 2))).isEmpty();
+    }
+
+    @Test
+    void importAndDeleteKeepTagCounts() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Tag java = tag("java");
+        Tag spring = tag("spring");
+        List<Long> imported = repository.insertAll(List.of(
+                article(author, null, List.of(java, spring)),
+                article(author, null, List.of(java)))).block();
+
+        assertThat(articleCount(java)).isEqualTo(2);
+        assertThat(articleCount(spring)).isEqualTo(1);
+
+        repository.deleteById(imported.get(0)).block();
+
+        assertThat(articleCount(java)).isEqualTo(1);
+        assertThat(articleCount(spring)).isZero();
+    }
+
+    @Test
+    void repairCommentCountsFixesOneBatchAtATime() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long first = PostgresTestDatabase.insertArticle(databaseClient, author, "First");
+        Long second = PostgresTestDatabase.insertArticle(databaseClient, author, "Second");
+        Long third = PostgresTestDatabase.insertArticle(databaseClient, author, "Third");
+        // Plain inserts leave comment_count behind, as a lost increment would
+        PostgresTestDatabase.insertComment(databaseClient, first, author);
+        PostgresTestDatabase.insertComment(databaseClient, first, author);
+        PostgresTestDatabase.insertComment(databaseClient, third, author);
+
+        CountRepair firstBatch = repository.repairCommentCounts(0L, 2).block();
+
+        assertThat(firstBatch.getLastId()).isEqualTo(second);
+        assertThat(firstBatch.getRepaired()).isEqualTo(1);
+        assertThat(column("comment_count", first)).isEqualTo(2);
+        assertThat(column("comment_count", third)).isZero();
+
+        CountRepair secondBatch = repository.repairCommentCounts(second, 2).block();
+
+        assertThat(secondBatch.getLastId()).isEqualTo(third);
+        assertThat(secondBatch.getRepaired()).isEqualTo(1);
+        assertThat(column("comment_count", third)).isEqualTo(1);
+        assertThat(repository.repairCommentCounts(third, 2).block().getLastId()).isNull();
+        assertThat(repository.repairCommentCounts(0L, 2).block().getRepaired()).isZero();
+    }
+
+    private static Tag tag(String name) {
+        return Tag.builder().id(PostgresTestDatabase.insertTag(databaseClient, name)).name(name).build();
+    }
+
+    // Same fields on every save, so only the tags can differ between two saves
+    private static Article article(Long author, Long id, List<Tag> tags) {
+        LocalDateTime created = LocalDateTime.of(2024, 5, 1, 12, 0);
+        return Article.builder()
+                .id(id)
+                .title("Tagged")
+                .content("Content")
+                .status(ArticleStatus.DRAFT)
+                .authorId(author)
+                .tags(tags)
+                .createdAt(created)
+                .updatedAt(created)
+                .build();
+    }
+
+    private static List<String> tagNames(Long articleId) {
+        return databaseClient.sql("SELECT t.name FROM article_tags at INNER JOIN tags t ON t.id = at.tag_id WHERE at.article_id = :id ORDER BY t.name")
+                .bind("id", articleId)
+                .map((row, rowMetadata) -> row.get("name", String.class))
+                .all()
+                .collectList()
+                .block();
+    }
+
+    private static int articleCount(Tag tag) {
+        return databaseClient.sql("SELECT article_count FROM tags WHERE id = :id")
+                .bind("id", tag.getId())
+                .map((row, rowMetadata) -> row.get("article_count", Integer.class))
+                .one()
+                .block();
+    }
+
+    private static int column(String column, Long articleId) {
+        return databaseClient.sql("SELECT " + column + "::int AS value FROM articles WHERE id = :id")
+                .bind("id", articleId)
+                .map((row, rowMetadata) -> row.get("value", Integer.class))
+                .one()
+                .block();
+    }
+
+    private static List<Long> ids(Flux<ArticleSummary> articles) {
+        return articles.map(ArticleSummary::getId).collectList().block();
+    }
+}
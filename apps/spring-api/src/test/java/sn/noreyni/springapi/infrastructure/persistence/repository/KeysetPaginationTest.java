@@ -0,0 +1,62 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.model.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPaginationTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void noCursorReadsTheLatestRows() {
+        StepVerifier.create(seek(null))
+                .expectNext(3L, 2L)
+                .verifyComplete();
+
+        assertThat(calls).containsExactly("latest");
+    }
+
+    @Test
+    void forwardCursorSeeksOlderRowsFromItsPosition() {
+        StepVerifier.create(seek(Cursor.of(CREATED, 5L)))
+                .expectNext(4L, 3L)
+                .verifyComplete();
+
+        assertThat(calls).containsExactly("older " + CREATED + " 5");
+    }
+
+    @Test
+    void backwardCursorSeeksNewerRowsAndKeepsNewestFirst() {
+        // The newer query runs ascending from the cursor, the page still reads newest first
+        StepVerifier.create(seek(Cursor.of(CREATED, 5L).previous()))
+                .expectNext(8L, 7L, 6L)
+                .verifyComplete();
+
+        assertThat(calls).containsExactly("newer " + CREATED + " 5");
+    }
+
+    private Flux<Long> seek(Cursor cursor) {
+        return KeysetPagination.seek(cursor,
+                () -> {
+                    calls.add("latest");
+                    return Flux.just(3L, 2L);
+                },
+                (createdAt, id) -> {
+                    calls.add("older " + createdAt + " " + id);
+                    return Flux.just(id - 1, id - 2);
+                },
+                (createdAt, id) -> {
+                    calls.add("newer " + createdAt + " " + id);
+                    return Flux.just(id + 1, id + 2, id + 3);
+                });
+    }
+}
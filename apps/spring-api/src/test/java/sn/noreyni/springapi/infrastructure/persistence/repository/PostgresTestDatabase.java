@@ -0,0 +1,90 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// The application's migrations applied to a container, plus helpers to seed rows with plain SQL
+public final class PostgresTestDatabase {
+
+    private PostgresTestDatabase() {
+    }
+
+    public static ConnectionFactory migrate(PostgreSQLContainer<?> postgres) {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        return new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+                .host(postgres.getHost())
+                .port(postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .database(postgres.getDatabaseName())
+                .username(postgres.getUsername())
+                .password(postgres.getPassword())
+                .build());
+    }
+
+    public static Long insertUser(DatabaseClient databaseClient, String username) {
+        return databaseClient.sql("INSERT INTO users (username, email, password, role) VALUES (:username, :email, 'x', 'USER') RETURNING id")
+                .bind("username", username)
+                .bind("email", username + "@example.com")
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public static Long insertArticle(DatabaseClient databaseClient, Long authorId, String title) {
+        return databaseClient.sql("INSERT INTO articles (title, content, author_id) VALUES (:title, 'Content', :authorId) RETURNING id")
+                .bind("title", title)
+                .bind("authorId", authorId)
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public static Long insertArticle(DatabaseClient databaseClient, Long authorId, String title, LocalDateTime createdAt) {
+        return databaseClient.sql("INSERT INTO articles (title, content, author_id, created_at) VALUES (:title, 'Content', :authorId, :createdAt) RETURNING id")
+                .bind("title", title)
+                .bind("authorId", authorId)
+                .bind("createdAt", createdAt)
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public static Long insertTag(DatabaseClient databaseClient, String name) {
+        return databaseClient.sql("INSERT INTO tags (name) VALUES (:name) RETURNING id")
+                .bind("name", name)
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public static void tag(DatabaseClient databaseClient, Long articleId, Long tagId) {
+        databaseClient.sql("INSERT INTO article_tags (article_id, tag_id) VALUES (:articleId, :tagId)")
+                .bind("articleId", articleId)
+                .bind("tagId", tagId)
+                .then()
+                .block();
+    }
+
+    public static void insertComment(DatabaseClient databaseClient, Long articleId, Long authorId) {
+        databaseClient.sql("INSERT INTO comments (content, author_id, article_id) VALUES ('Comment', :authorId, :articleId)")
+                .bind("authorId", authorId)
+                .bind("articleId", articleId)
+                .then()
+                .block();
+    }
+
+    public static Mono<Void> truncate(DatabaseClient databaseClient) {
+        return databaseClient.sql("TRUNCATE users, articles, tags, article_tags, article_likes, article_like_deltas, comments, trending_snapshots RESTART IDENTITY CASCADE")
+                .then();
+    }
+}
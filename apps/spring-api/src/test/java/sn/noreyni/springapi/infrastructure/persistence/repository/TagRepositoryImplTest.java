@@ -0,0 +1,67 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import sn.noreyni.springapi.domain.model.TagCount;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TagRepositoryImplTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static DatabaseClient databaseClient;
+    private TagRepositoryImpl repository;
+
+    @BeforeAll
+    static void migrate() {
+        databaseClient = DatabaseClient.create(PostgresTestDatabase.migrate(POSTGRES));
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+        repository = new TagRepositoryImpl(databaseClient);
+    }
+
+    @Test
+    void mostUsedTagsComeFromTheMaintainedCounts() {
+        setCount(PostgresTestDatabase.insertTag(databaseClient, "java"), 3);
+        setCount(PostgresTestDatabase.insertTag(databaseClient, "spring"), 7);
+        setCount(PostgresTestDatabase.insertTag(databaseClient, "go"), 3);
+        PostgresTestDatabase.insertTag(databaseClient, "unused");
+
+        List<TagCount> tags = repository.findMostUsed(10).collectList().block();
+
+        assertThat(tags).extracting(TagCount::getName).containsExactly("spring", "go", "java");
+        assertThat(tags).extracting(TagCount::getArticleCount).containsExactly(7, 3, 3);
+    }
+
+    @Test
+    void resolveIdsCreatesOnlyTheMissingTags() {
+        Long java = PostgresTestDatabase.insertTag(databaseClient, "java");
+
+        Map<String, Long> ids = repository.resolveIds(List.of("java", "spring", "spring")).block();
+
+        assertThat(ids).containsEntry("java", java).containsOnlyKeys("java", "spring");
+        assertThat(repository.resolveIds(List.of("spring")).block()).containsEntry("spring", ids.get("spring"));
+    }
+
+    private static void setCount(Long tagId, int count) {
+        databaseClient.sql("UPDATE tags SET article_count = :count WHERE id = :id")
+                .bind("count", count)
+                .bind("id", tagId)
+                .then()
+                .block();
+    }
+}
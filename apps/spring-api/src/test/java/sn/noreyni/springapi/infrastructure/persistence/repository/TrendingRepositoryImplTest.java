@@ -0,0 +1,81 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TrendingRepositoryImplTest {
+    private static final double HALF_LIFE_MILLIS = 3_600_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static ConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private TrendingRepositoryImpl repository;
+
+    @BeforeAll
+    static void migrate() {
+        connectionFactory = PostgresTestDatabase.migrate(POSTGRES);
+        databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+        repository = new TrendingRepositoryImpl(databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)));
+    }
+
+    @Test
+    void mergeAddsToTheStoredScoreDecayedToTheLaterTime() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long article = PostgresTestDatabase.insertArticle(databaseClient, author, "Trending");
+
+        merge(new TrendingScore(article, 8, NOW));
+        merge(new TrendingScore(article, 2, NOW.plusHours(1)));
+        // A replica whose clock lags is decayed towards the stored time instead
+        merge(new TrendingScore(article, 4, NOW));
+
+        TrendingScore stored = repository.findSnapshot().blockFirst();
+        assertThat(stored.getScoredAt()).isEqualTo(NOW.plusHours(1));
+        assertThat(stored.getScore()).isCloseTo(8 * 0.5 + 2 + 4 * 0.5, within(1e-9));
+    }
+
+    @Test
+    void mergeSkipsDeletedArticlesAndPrunesStaleScores() {
+        Long author = PostgresTestDatabase.insertUser(databaseClient, "author");
+        Long stale = PostgresTestDatabase.insertArticle(databaseClient, author, "Stale");
+        Long fresh = PostgresTestDatabase.insertArticle(databaseClient, author, "Fresh");
+        merge(new TrendingScore(stale, 1, NOW.minusDays(8)));
+
+        repository.mergeSnapshot(List.of(new TrendingScore(fresh, 3, NOW), new TrendingScore(fresh + 100, 5, NOW)),
+                HALF_LIFE_MILLIS, NOW.minusDays(7)).block();
+
+        Map<Long, Double> scores = repository.findSnapshot().collectList().block().stream()
+                .collect(Collectors.toMap(TrendingScore::getArticleId, TrendingScore::getScore));
+        assertThat(scores).containsOnlyKeys(fresh);
+    }
+
+    private void merge(TrendingScore score) {
+        repository.mergeSnapshot(List.of(score), HALF_LIFE_MILLIS, NOW.minusYears(1)).block();
+    }
+}
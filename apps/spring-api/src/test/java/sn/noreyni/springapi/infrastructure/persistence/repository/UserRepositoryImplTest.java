@@ -0,0 +1,62 @@
+package sn.noreyni.springapi.infrastructure.persistence.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import sn.noreyni.springapi.domain.model.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class UserRepositoryImplTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static ConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private UserRepositoryImpl repository;
+
+    @BeforeAll
+    static void migrate() {
+        connectionFactory = PostgresTestDatabase.migrate(POSTGRES);
+        databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        PostgresTestDatabase.truncate(databaseClient).block();
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        repository = new UserRepositoryImpl(
+                new R2dbcRepositoryFactory(template).getRepository(R2dbcUserRepository.class),
+                databaseClient,
+                template.getConverter());
+    }
+
+    @Test
+    void findAllByIdsReturnsOnlyTheRequestedUsers() {
+        Long ada = PostgresTestDatabase.insertUser(databaseClient, "ada");
+        Long alan = PostgresTestDatabase.insertUser(databaseClient, "alan");
+        PostgresTestDatabase.insertUser(databaseClient, "grace");
+
+        List<User> users = repository.findAllByIds(List.of(ada, alan, 999L)).collectList().block();
+
+        assertThat(users).extracting(User::getUsername).containsExactlyInAnyOrder("ada", "alan");
+    }
+
+    @Test
+    void noIdsFindNoUsers() {
+        PostgresTestDatabase.insertUser(databaseClient, "ada");
+
+        assertThat(repository.findAllByIds(List.of()).collectList().block()).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadRoutingTest {
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadRouting readRouting = routing(lagMonitor, 1000, 5000);
+
+    @Test
+    void pinLastsOneWindowAfterTheWrite() {
+        assertThat(readRouting.isPinned(10_000, 10_000)).isTrue();
+        assertThat(readRouting.isPinned(10_000, 14_999)).isTrue();
+        assertThat(readRouting.isPinned(10_000, 15_000)).isFalse();
+    }
+
+    @Test
+    void futureWriteTimesAreOnlyToleratedByOneWindow() {
+        assertThat(readRouting.isPinned(12_000, 10_000)).isTrue();
+        assertThat(readRouting.isPinned(10_000 + 60_000, 10_000)).isFalse();
+    }
+
+    @Test
+    void pinIsNeverShorterThanTheToleratedLag() {
+        assertThat(routing(lagMonitor, 8000, 5000).pinAfterWrite()).isEqualTo(Duration.ofMillis(8000));
+    }
+
+    @Test
+    void readsGoToTheReplicaWhenItIsCaughtUp() {
+        when(lagMonitor.isWithin(any())).thenReturn(true);
+
+        StepVerifier.create(readRouting.readOnly(target()))
+                .expectNext(ReadRouting.REPLICA)
+                .verifyComplete();
+    }
+
+    @Test
+    void readsStayOnThePrimaryWhileTheReplicaLags() {
+        when(lagMonitor.isWithin(any())).thenReturn(false);
+
+        StepVerifier.create(readRouting.readOnly(target()))
+                .expectNext(ReadRouting.PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    void pinnedReadsStayOnThePrimary() {
+        when(lagMonitor.isWithin(any())).thenReturn(true);
+
+        StepVerifier.create(readRouting.readOnly(target())
+                        .contextWrite(context -> context.put(ReadRouting.PINNED_KEY, true)))
+                .expectNext(ReadRouting.PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    void withoutAReplicaQueriesRunUnchanged() {
+        ReadRouting withoutReplica = routing(null, 1000, 5000);
+
+        assertThat(withoutReplica.isEnabled()).isFalse();
+        StepVerifier.create(withoutReplica.readOnly(Mono.deferContextual(context ->
+                        Mono.just(context.hasKey(ReadRouting.TARGET_KEY)))))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    static Mono<String> target() {
+        return Mono.deferContextual(context -> Mono.just(context.<String>get(ReadRouting.TARGET_KEY)));
+    }
+
+    @SuppressWarnings("unchecked")
+    static ReadRouting routing(ReplicaLagMonitor lagMonitor, long lagToleranceMs, long pinAfterWriteMs) {
+        ObjectProvider<ReplicaLagMonitor> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(lagMonitor);
+        return new ReadRouting(provider, new SimpleMeterRegistry(), lagToleranceMs, pinAfterWriteMs);
+    }
+}
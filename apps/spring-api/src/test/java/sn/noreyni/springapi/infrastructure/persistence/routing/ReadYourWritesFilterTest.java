@@ -0,0 +1,86 @@
+package sn.noreyni.springapi.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadYourWritesFilterTest {
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadRouting readRouting = ReadRoutingTest.routing(lagMonitor, 1000, 5000);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(readRouting);
+    private final AtomicReference<String> target = new AtomicReference<>();
+
+    ReadYourWritesFilterTest() {
+        when(lagMonitor.isWithin(any())).thenReturn(true);
+    }
+
+    @Test
+    void writeHandsOutTheMarkerAndReadsFromThePrimary() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/articles"));
+        long before = System.currentTimeMillis();
+
+        filter.filter(exchange, chain()).block();
+
+        ResponseCookie cookie = exchange.getResponse().getCookies().getFirst(ReadYourWritesFilter.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isBetween(before, System.currentTimeMillis());
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getPath()).isEqualTo("/");
+        assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofSeconds(6));
+        assertThat(target).hasValue(ReadRouting.PRIMARY);
+    }
+
+    @Test
+    void readAfterARecentWriteGoesToThePrimary() {
+        filter.filter(get(String.valueOf(System.currentTimeMillis() - 1000)), chain()).block();
+
+        assertThat(target).hasValue(ReadRouting.PRIMARY);
+    }
+
+    @Test
+    void readAfterTheWindowGoesToTheReplica() {
+        filter.filter(get(String.valueOf(System.currentTimeMillis() - 60_000)), chain()).block();
+
+        assertThat(target).hasValue(ReadRouting.REPLICA);
+    }
+
+    @Test
+    void malformedMarkerIsIgnored() {
+        filter.filter(get("not-a-time"), chain()).block();
+
+        assertThat(target).hasValue(ReadRouting.REPLICA);
+    }
+
+    @Test
+    void readWithoutMarkerSetsNoCookie() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles"));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(exchange.getResponse().getCookies()).doesNotContainKey(ReadYourWritesFilter.COOKIE);
+        assertThat(target).hasValue(ReadRouting.REPLICA);
+    }
+
+    private static MockServerWebExchange get(String marker) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1")
+                .cookie(new HttpCookie(ReadYourWritesFilter.COOKIE, marker)));
+    }
+
+    private WebFilterChain chain() {
+        return exchange -> readRouting.readOnly(ReadRoutingTest.target())
+                .doOnNext(target::set)
+                .then(Mono.defer(() -> exchange.getResponse().setComplete()));
+    }
+}
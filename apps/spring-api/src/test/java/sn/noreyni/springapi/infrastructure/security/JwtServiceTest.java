@@ -0,0 +1,90 @@
+package sn.noreyni.springapi.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import sn.noreyni.springapi.domain.model.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTest {
+    private static final String SECRET = "a-test-secret-that-is-at-least-32-bytes-long";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtService jwtService = new JwtService(meterRegistry, SECRET, 60_000L, 100);
+    private final User user = User.builder().id(42L).username("reader").firstName("Ada").lastName("Reader")
+            .email("reader@example.com").role("ADMIN").build();
+
+    @Test
+    void tokenCarriesTheUserIdAndRole() {
+        Claims claims = jwtService.verify(jwtService.generateToken(user)).orElseThrow();
+
+        AuthenticatedUser principal = jwtService.toPrincipal(claims);
+        assertThat(claims.getSubject()).isEqualTo("reader@example.com");
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getRole()).isEqualTo("ADMIN");
+        assertThat(principal.getName()).isEqualTo("reader@example.com");
+        assertThat(principal.getUsername()).isEqualTo("reader");
+        assertThat(principal.getDisplayName()).isEqualTo("Ada Reader");
+    }
+
+    @Test
+    void olderTokensHaveNoPrincipal() {
+        String token = jwtService.generateToken(userDetails("reader@example.com"));
+
+        assertThat(jwtService.toPrincipal(jwtService.verify(token).orElseThrow())).isNull();
+    }
+
+    @Test
+    void signatureIsCheckedOncePerToken() {
+        String token = jwtService.generateToken(user);
+
+        jwtService.verify(token);
+        jwtService.verify(token);
+        jwtService.verify(token);
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtService.generateToken(user);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThat(jwtService.verify(forged)).isEmpty();
+        assertThat(jwtService.extractUsername(forged)).isNull();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        JwtService other = new JwtService(new SimpleMeterRegistry(), SECRET + "-other", 60_000L, 100);
+
+        assertThat(jwtService.verify(other.generateToken(user))).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtService expired = new JwtService(new SimpleMeterRegistry(), SECRET, -1000L, 100);
+
+        assertThat(jwtService.verify(expired.generateToken(user))).isEmpty();
+    }
+
+    @Test
+    void validityChecksTheSubject() {
+        String token = jwtService.generateToken(user);
+
+        assertThat(jwtService.isTokenValid(token, userDetails("reader@example.com"))).isTrue();
+        assertThat(jwtService.isTokenValid(token, userDetails("other@example.com"))).isFalse();
+    }
+
+    private static UserDetails userDetails(String email) {
+        return org.springframework.security.core.userdetails.User.withUsername(email).password("secret").authorities("USER").build();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "verified_jwts").tag("result", result).functionCounter().count();
+    }
+}
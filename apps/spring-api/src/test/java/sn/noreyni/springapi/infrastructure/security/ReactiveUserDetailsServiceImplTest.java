@@ -0,0 +1,53 @@
+package sn.noreyni.springapi.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.domain.model.User;
+import sn.noreyni.springapi.domain.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveUserDetailsServiceImplTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ReactiveUserDetailsServiceImpl service = new ReactiveUserDetailsServiceImpl(userRepository);
+
+    @Test
+    void userDetailsKeepThePasswordHash() {
+        when(userRepository.findByEmail("reader@example.com")).thenReturn(Mono.just(user()));
+
+        StepVerifier.create(service.findByUsername("reader@example.com"))
+                .assertNext(details -> {
+                    assertThat(details.getUsername()).isEqualTo("reader@example.com");
+                    assertThat(details.getPassword()).isEqualTo("$2a$10$hash");
+                    assertThat(details.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void principalForOlderTokensCarriesTheNames() {
+        when(userRepository.findByEmail("reader@example.com")).thenReturn(Mono.just(user()));
+
+        StepVerifier.create(service.findAuthenticatedUser("reader@example.com"))
+                .assertNext(principal -> {
+                    assertThat(principal.getId()).isEqualTo(7L);
+                    assertThat(principal.getName()).isEqualTo("reader@example.com");
+                    assertThat(principal.getUsername()).isEqualTo("reader");
+                    assertThat(principal.getDisplayName()).isEqualTo("reader");
+                })
+                .verifyComplete();
+    }
+
+    private static User user() {
+        return User.builder()
+                .id(7L)
+                .username("reader")
+                .email("reader@example.com")
+                .password("$2a$10$hash")
+                .role("ROLE_USER")
+                .build();
+    }
+}
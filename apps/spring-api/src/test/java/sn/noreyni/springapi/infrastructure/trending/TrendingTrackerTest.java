@@ -0,0 +1,120 @@
+package sn.noreyni.springapi.infrastructure.trending;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sn.noreyni.springapi.domain.model.TrendingScore;
+import sn.noreyni.springapi.domain.repository.TrendingRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingTrackerTest {
+    private final TrendingRepository trendingRepository = mock(TrendingRepository.class);
+
+    @Test
+    void refreshRanksBySignalWeightAndKeepsTopK() {
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 24, 2, 100);
+        tracker.record(1L, TrendingSignal.VIEW);
+        tracker.record(2L, TrendingSignal.COMMENT);
+        tracker.record(3L, TrendingSignal.LIKE);
+        tracker.record(3L, TrendingSignal.VIEW);
+
+        tracker.refresh();
+
+        assertThat(tracker.top()).extracting(TrendingScore::getArticleId).containsExactly(2L, 3L);
+        assertThat(tracker.top().get(1).getScore()).isCloseTo(6, within(0.01));
+    }
+
+    @Test
+    void refreshKeepsOnlyTheHighestScoresPastMaxTracked() {
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 24, 10, 2);
+        tracker.record(1L, TrendingSignal.VIEW);
+        tracker.record(2L, TrendingSignal.LIKE);
+        tracker.record(3L, TrendingSignal.COMMENT);
+
+        tracker.refresh();
+        tracker.refresh();
+
+        assertThat(tracker.top()).extracting(TrendingScore::getArticleId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void snapshotSendsOnlyWhatWasRecordedSinceThePreviousOne() {
+        when(trendingRepository.mergeSnapshot(any(), anyDouble(), any())).thenReturn(Mono.empty());
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 24, 10, 100);
+        tracker.record(1L, TrendingSignal.LIKE);
+        tracker.snapshot();
+        tracker.record(1L, TrendingSignal.VIEW);
+        tracker.record(2L, TrendingSignal.COMMENT);
+        tracker.snapshot();
+
+        List<Map<Long, Double>> merged = mergedSnapshots(2);
+        assertThat(merged.get(0)).containsOnlyKeys(1L);
+        assertThat(merged.get(0).get(1L)).isCloseTo(5, within(0.01));
+        assertThat(merged.get(1)).containsOnlyKeys(1L, 2L);
+        assertThat(merged.get(1).get(1L)).isCloseTo(1, within(0.01));
+        assertThat(merged.get(1).get(2L)).isCloseTo(10, within(0.01));
+    }
+
+    @Test
+    void failedSnapshotIsRetriedWithTheNextOne() {
+        when(trendingRepository.mergeSnapshot(any(), anyDouble(), any()))
+                .thenReturn(Mono.error(new IllegalStateException("down")))
+                .thenReturn(Mono.empty());
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 24, 10, 100);
+        tracker.record(1L, TrendingSignal.LIKE);
+        tracker.snapshot();
+        tracker.record(1L, TrendingSignal.VIEW);
+        tracker.snapshot();
+
+        List<Map<Long, Double>> merged = mergedSnapshots(2);
+        assertThat(merged.get(1).get(1L)).isCloseTo(6, within(0.01));
+    }
+
+    @Test
+    void warmUpDecaysSavedScoresFromTheirSnapshotTime() {
+        when(trendingRepository.findSnapshot()).thenReturn(Flux.just(
+                new TrendingScore(1L, 8, LocalDateTime.now().minusHours(1)),
+                new TrendingScore(2L, 3, LocalDateTime.now())));
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 1, 10, 100);
+
+        tracker.warmUp();
+
+        Map<Long, Double> top = tracker.top().stream()
+                .collect(Collectors.toMap(TrendingScore::getArticleId, TrendingScore::getScore));
+        assertThat(top.get(1L)).isCloseTo(4, within(0.01));
+        assertThat(top.get(2L)).isCloseTo(3, within(0.01));
+    }
+
+    @Test
+    void failedWarmUpStartsCold() {
+        when(trendingRepository.findSnapshot()).thenReturn(Flux.error(new IllegalStateException("down")));
+        TrendingTracker tracker = new TrendingTracker(trendingRepository, 24, 10, 100);
+
+        tracker.warmUp();
+
+        assertThat(tracker.top()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<Long, Double>> mergedSnapshots(int count) {
+        ArgumentCaptor<List<TrendingScore>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(trendingRepository, times(count)).mergeSnapshot(deltas.capture(), anyDouble(), any());
+        return deltas.getAllValues().stream()
+                .map(scores -> scores.stream().collect(Collectors.toMap(TrendingScore::getArticleId, TrendingScore::getScore)))
+                .toList();
+    }
+}
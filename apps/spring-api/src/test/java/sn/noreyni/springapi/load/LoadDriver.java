@@ -0,0 +1,131 @@
+package sn.noreyni.springapi.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Open-loop driver: requests are issued on a fixed schedule whatever the response times, and
+// latency is measured from the scheduled start so a stalled server is not hidden by the client
+// waiting on it (coordinated omission).
+class LoadDriver {
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final int maxInFlight;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadDriver(int maxInFlight, Duration warmup, Duration duration) {
+        this.maxInFlight = maxInFlight;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    LoadReport.Phase run(String name, List<LoadScenario> scenarios, int rate) {
+        drive(scenarios, rate, warmup);
+
+        long statementsBefore = StatementCounter.count();
+        Map<String, Stats> stats = drive(scenarios, rate, duration);
+        long statements = StatementCounter.count() - statementsBefore;
+
+        double seconds = duration.toNanos() / 1e9;
+        List<LoadReport.Endpoint> endpoints = new ArrayList<>();
+        stats.forEach((endpoint, stat) -> endpoints.add(stat.report(endpoint, seconds)));
+        long requests = endpoints.stream().mapToLong(LoadReport.Endpoint::getRequests).sum();
+        return LoadReport.Phase.builder()
+                .name(name)
+                .requests(requests)
+                .errors(endpoints.stream().mapToLong(LoadReport.Endpoint::getErrors).sum())
+                .throughput(requests / seconds)
+                .statementsPerRequest(requests > 0 ? (double) statements / requests : 0)
+                .endpoints(endpoints)
+                .build();
+    }
+
+    private Map<String, Stats> drive(List<LoadScenario> scenarios, int rate, Duration length) {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> stats.put(scenario.getName(), new Stats()));
+        int totalWeight = scenarios.stream().mapToInt(LoadScenario::getWeight).sum();
+        long perTick = Math.max(1, Math.round(rate * TICK.toNanos() / 1e9));
+        long ticks = length.toNanos() / TICK.toNanos();
+        long start = System.nanoTime();
+
+        Flux.interval(TICK)
+                .onBackpressureBuffer()
+                .take(ticks)
+                .concatMapIterable(tick -> {
+                    long scheduled = start + (tick + 1) * TICK.toNanos();
+                    List<Call> calls = new ArrayList<>((int) perTick);
+                    for (int i = 0; i < perTick; i++) {
+                        calls.add(new Call(pick(scenarios, totalWeight), scheduled));
+                    }
+                    return calls;
+                })
+                .flatMap(call -> call.scenario.getRequest().get()
+                        .map(status -> status.isError())
+                        .onErrorReturn(true)
+                        .defaultIfEmpty(true)
+                        .doOnNext(failed -> stats.get(call.scenario.getName()).record(System.nanoTime() - call.scheduled, failed)),
+                        maxInFlight)
+                .blockLast();
+        return stats;
+    }
+
+    private static LoadScenario pick(List<LoadScenario> scenarios, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (LoadScenario scenario : scenarios) {
+            roll -= scenario.getWeight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static class Call {
+        final LoadScenario scenario;
+        final long scheduled;
+
+        Call(LoadScenario scenario, long scheduled) {
+            this.scenario = scenario;
+            this.scheduled = scheduled;
+        }
+    }
+
+    private static class Stats {
+        final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean failed) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        LoadReport.Endpoint report(String name, double seconds) {
+            Histogram histogram = latencies.getIntervalHistogram();
+            return LoadReport.Endpoint.builder()
+                    .name(name)
+                    .requests(histogram.getTotalCount())
+                    .errors(errors.sum())
+                    .throughput(histogram.getTotalCount() / seconds)
+                    .meanMs(histogram.getMean() / 1000)
+                    .p50Ms(histogram.getValueAtPercentile(50) / 1000.0)
+                    .p90Ms(histogram.getValueAtPercentile(90) / 1000.0)
+                    .p99Ms(histogram.getValueAtPercentile(99) / 1000.0)
+                    .p999Ms(histogram.getValueAtPercentile(99.9) / 1000.0)
+                    .maxMs(histogram.getMaxValue() / 1000.0)
+                    .build();
+        }
+    }
+}
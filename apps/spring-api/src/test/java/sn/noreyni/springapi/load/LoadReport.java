@@ -0,0 +1,52 @@
+package sn.noreyni.springapi.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+    private String label;
+    private Instant startedAt;
+    private int targetRate;
+    private long warmupSeconds;
+    private long durationSeconds;
+    private List<Phase> phases;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Phase {
+        private String name;
+        private long requests;
+        private long errors;
+        private double throughput;
+        private double statementsPerRequest;
+        private List<Endpoint> endpoints;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        private String name;
+        private long requests;
+        private long errors;
+        private double throughput;
+        private double meanMs;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double maxMs;
+    }
+}
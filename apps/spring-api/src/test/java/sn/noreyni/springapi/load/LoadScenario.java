@@ -0,0 +1,17 @@
+package sn.noreyni.springapi.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+// One endpoint of the workload and its share of the mixed traffic
+@Getter
+@AllArgsConstructor
+class LoadScenario {
+    private final String name;
+    private final int weight;
+    private final Supplier<Mono<HttpStatusCode>> request;
+}
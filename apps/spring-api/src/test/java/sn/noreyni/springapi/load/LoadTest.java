@@ -0,0 +1,218 @@
+package sn.noreyni.springapi.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the application against a Postgres container seeded by SyntheticDataGenerator and drives
+// each endpoint alone, then all of them mixed, at -Dload.rate requests per second. Latency
+// percentiles, throughput and SQL statements per request go to target/load-report.json so two
+// builds can be compared run against run. Excluded from the default build, run with -Pload.
+@Slf4j
+@Tag("load")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTest {
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 30));
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 256);
+    private static final int USERS = Integer.getInteger("load.users", 1000);
+    private static final int ARTICLES = Integer.getInteger("load.articles", 20000);
+    private static final int COMMENTS = Integer.getInteger("load.comments", 100000);
+    private static final int LIKES = Integer.getInteger("load.likes", 200000);
+    private static final int LOGGED_IN_USERS = 50;
+    // SyntheticDataGenerator makes the first five users admins
+    private static final int ADMINS = 5;
+    private static final Path REPORT = Path.of("target", "load-report.json");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        // Same variables as the deployment, the r2dbc-proxy driver wraps the Postgres one to count statements
+        registry.add("DB_URL", () -> "r2dbc:proxy:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/" + POSTGRES.getDatabaseName() + "?proxyListener=" + StatementCounter.class.getName());
+        registry.add("JDBC_URL", POSTGRES::getJdbcUrl);
+        registry.add("DB_USERNAME", POSTGRES::getUsername);
+        registry.add("DB_PASSWORD", POSTGRES::getPassword);
+        registry.add("JWT_SECRET", () -> "load-test-secret-key-that-is-at-least-256-bits-long");
+        registry.add("JWT_EXPIRATION", () -> Duration.ofDays(1).toMillis());
+        // The listener casts its connection to the Postgres driver's, which the proxy URL does not produce;
+        // a single instance has no other replica to hear from anyway
+        registry.add("app.cache.articles.invalidation.enabled", () -> false);
+        registry.add("app.seed.synthetic.enabled", () -> true);
+        registry.add("app.seed.synthetic.users", () -> USERS);
+        registry.add("app.seed.synthetic.tags", () -> Integer.getInteger("load.tags", 100));
+        registry.add("app.seed.synthetic.articles", () -> ARTICLES);
+        registry.add("app.seed.synthetic.comments", () -> COMMENTS);
+        registry.add("app.seed.synthetic.likes", () -> LIKES);
+        registry.add("logging.level.sn.noreyni", () -> "INFO");
+        registry.add("logging.level.org.springframework.data.r2dbc", () -> "INFO");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void endpointsUnderLoad() throws IOException {
+        // The generator blocks startup, so the whole dataset is in before the first request
+        assertThat(count("users")).isEqualTo(USERS);
+        assertThat(count("articles")).isEqualTo(ARTICLES);
+        assertThat(count("comments")).isEqualTo(COMMENTS);
+        // Duplicate (article, user) draws collapse into one like
+        assertThat(count("article_likes")).isPositive().isLessThanOrEqualTo(LIKES);
+
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(ConnectionProvider.builder("load")
+                        .maxConnections(MAX_IN_FLIGHT)
+                        .pendingAcquireMaxCount(-1)
+                        .build())))
+                .build();
+        List<LoadScenario> scenarios = scenarios(client);
+
+        LoadDriver driver = new LoadDriver(MAX_IN_FLIGHT, WARMUP, DURATION);
+        List<LoadReport.Phase> phases = new ArrayList<>();
+        for (LoadScenario scenario : scenarios) {
+            phases.add(driver.run(scenario.getName(), List.of(scenario), RATE));
+        }
+        phases.add(driver.run("mixed", scenarios, RATE));
+
+        LoadReport report = LoadReport.builder()
+                .label(System.getProperty("load.label", "local"))
+                .startedAt(Instant.now())
+                .targetRate(RATE)
+                .warmupSeconds(WARMUP.toSeconds())
+                .durationSeconds(DURATION.toSeconds())
+                .phases(phases)
+                .build();
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+        phases.forEach(phase -> log.info("{}: {} req/s, {} errors, {} statements/request, p50 {} ms, p99 {} ms",
+                phase.getName(), String.format("%.1f", phase.getThroughput()), phase.getErrors(),
+                String.format("%.2f", phase.getStatementsPerRequest()),
+                phase.getEndpoints().get(0).getP50Ms(), phase.getEndpoints().get(0).getP99Ms()));
+        log.info("Load report written to {}", REPORT.toAbsolutePath());
+
+        assertThat(phases).allSatisfy(phase -> assertThat(phase.getRequests()).isPositive());
+    }
+
+    private List<LoadScenario> scenarios(WebClient client) {
+        List<Long> articleIds = articleIds(client);
+        assertThat(articleIds).isNotEmpty();
+        String adminToken = login(client, "admin1@example.com");
+        List<String> userTokens = IntStream.range(ADMINS + 1, ADMINS + 1 + LOGGED_IN_USERS)
+                .mapToObj(id -> login(client, "user" + id + "@example.com"))
+                .toList();
+
+        // Same proportions as the production dashboards: mostly anonymous reads of a few hot pages
+        return List.of(
+                new LoadScenario("GET /api/articles", 30, () -> get(client, "/api/articles?page=0&size=20")),
+                new LoadScenario("GET /api/articles?page={n}", 10, () -> get(client, "/api/articles?page=" + random(1, 50) + "&size=20")),
+                new LoadScenario("GET /api/articles/{id}", 30, () -> get(client, "/api/articles/" + anyOf(articleIds))),
+                new LoadScenario("GET /api/articles/{id}/comments", 10, () -> get(client, "/api/articles/" + anyOf(articleIds) + "/comments")),
+                new LoadScenario("GET /api/articles/trending", 5, () -> get(client, "/api/articles/trending")),
+                new LoadScenario("POST /api/articles/{id}/likes", 8, () -> post(client, "/api/articles/" + anyOf(articleIds) + "/likes",
+                        anyOf(userTokens), Map.of())),
+                new LoadScenario("POST /api/articles/{id}/comments", 5, () -> post(client, "/api/articles/" + anyOf(articleIds) + "/comments",
+                        adminToken, Map.of("content", "Load test comment"))),
+                new LoadScenario("POST /api/articles", 2, () -> post(client, "/api/articles",
+                        adminToken, Map.of("title", "Load test article", "content", "Load test content ".repeat(100), "status", "PUBLISHED"))));
+    }
+
+    // Published articles only, anonymous reads of drafts are rejected
+    private List<Long> articleIds(WebClient client) {
+        return Flux.range(0, 10)
+                .concatMap(page -> client.get()
+                        .uri("/api/articles?page={page}&size=100", page)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .flatMapIterable(body -> body.get("content")))
+                .map(article -> article.get("id").asLong())
+                .collectList()
+                .block();
+    }
+
+    private long count(String table) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM " + table)
+                .map((row, rowMetadata) -> row.get("total", Long.class))
+                .one()
+                .block();
+    }
+
+    private String login(WebClient client, String email) {
+        return client.post()
+                .uri("/api/auth/login")
+                .bodyValue(Map.of("email", email, "password", "password"))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.get("token").asText())
+                .block();
+    }
+
+    private static Mono<HttpStatusCode> get(WebClient client, String uri) {
+        return client.get().uri(uri).exchangeToMono(LoadTest.status());
+    }
+
+    private static Mono<HttpStatusCode> post(WebClient client, String uri, String token, Map<String, Object> body) {
+        return client.post()
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(body)
+                .exchangeToMono(LoadTest.status());
+    }
+
+    private static Function<ClientResponse, Mono<HttpStatusCode>> status() {
+        return response -> response.releaseBody().thenReturn(response.statusCode());
+    }
+
+    private static <T> T anyOf(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static int random(int from, int to) {
+        return ThreadLocalRandom.current().nextInt(from, to + 1);
+    }
+}
@@ -0,0 +1,21 @@
+package sn.noreyni.springapi.load;
+
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Registered through the r2dbc:proxy: URL of the load test, which instantiates it itself,
+// hence the static count
+public class StatementCounter implements ProxyExecutionListener {
+    private static final LongAdder STATEMENTS = new LongAdder();
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execInfo) {
+        STATEMENTS.add(execInfo.getQueries().size());
+    }
+
+    public static long count() {
+        return STATEMENTS.sum();
+    }
+}
@@ -0,0 +1,170 @@
+package sn.noreyni.springapi.web.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sn.noreyni.springapi.application.dto.ArticleDto;
+import sn.noreyni.springapi.application.dto.ArticleSummaryDto;
+import sn.noreyni.springapi.application.dto.AuthorDto;
+import sn.noreyni.springapi.application.dto.CommentDto;
+import sn.noreyni.springapi.application.dto.CursorPageDto;
+import sn.noreyni.springapi.application.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetTest {
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final AtomicInteger fetched = new AtomicInteger();
+
+    @Test
+    void firstRequestIsRenderedWithValidators() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1"));
+
+        StepVerifier.create(respond(exchange, "article-1", article(3L), ConditionalGet::article))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.getETag()).startsWith("\"article-1-");
+        assertThat(headers.getCacheControl()).isEqualTo("no-cache");
+        assertThat(fetched).hasValue(1);
+    }
+
+    @Test
+    void matchingETagIsNotModifiedFromTheSameFetch() {
+        String etag = etagOf("article-1", article(3L), ConditionalGet::article);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1").ifNoneMatch(etag));
+
+        StepVerifier.create(respond(exchange, "article-1", article(3L), ConditionalGet::article))
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(fetched).hasValue(1);
+    }
+
+    @Test
+    void articleETagFollowsTheContentVersionButNotTheCounters() {
+        String etag = etagOf("article-1", article(3L), ConditionalGet::article);
+        ArticleDto viewed = article(3L).toBuilder().views(500).likes(40).build();
+
+        assertThat(etagOf("article-1", viewed, ConditionalGet::article)).isEqualTo(etag);
+        assertThat(etagOf("article-1", article(4L), ConditionalGet::article)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void articleETagFollowsAuthorAndCommentNames() {
+        String etag = etagOf("article-1", article(3L), ConditionalGet::article);
+        ArticleDto renamedAuthor = article(3L);
+        renamedAuthor.getAuthor().setLastName("Renamed");
+        ArticleDto renamedCommenter = article(3L);
+        renamedCommenter.getComments().get(0).getAuthor().setDisplayName("Renamed");
+
+        assertThat(etagOf("article-1", renamedAuthor, ConditionalGet::article)).isNotEqualTo(etag);
+        assertThat(etagOf("article-1", renamedCommenter, ConditionalGet::article)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void listETagFollowsItemsAndTotalButNotTheCounters() {
+        Function<Page<ArticleSummaryDto>, ?> content = ConditionalGet.page(ConditionalGet::summary);
+        String etag = etagOf("articles", page(summary("Title", 1), 11), content);
+
+        assertThat(etagOf("articles", page(summary("Title", 900), 11), content)).isEqualTo(etag);
+        assertThat(etagOf("articles", page(summary("Edited", 1), 11), content)).isNotEqualTo(etag);
+        assertThat(etagOf("articles", page(summary("Title", 1), 12), content)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void cursorPageETagFollowsTheCursors() {
+        Function<CursorPageDto<CommentDto>, ?> content = ConditionalGet.cursorPage(ConditionalGet::comment);
+        CursorPageDto<CommentDto> last = CursorPageDto.<CommentDto>builder().content(List.of(comment())).size(1).build();
+        CursorPageDto<CommentDto> more = CursorPageDto.<CommentDto>builder().content(List.of(comment())).nextCursor("next").size(1).build();
+
+        assertThat(etagOf("comments", last, content)).isNotEqualTo(etagOf("comments", more, content));
+    }
+
+    @Test
+    void pagesOfOneListHaveDifferentETags() {
+        Function<Page<ArticleSummaryDto>, ?> content = ConditionalGet.page(ConditionalGet::summary);
+        String first = etagOf(ConditionalGet.key("articles", 0, 10), page(summary("Title", 1), 1), content);
+        String second = etagOf(ConditionalGet.key("articles", 1, 10), page(summary("Title", 1), 1), content);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void keyKeepsUserInputOutOfTheETagSyntax() {
+        assertThat(ConditionalGet.key("articles-tag", "a\"b c", null, 10)).isEqualTo("articles-tag:a%22b+c::10");
+    }
+
+    @Test
+    void missingResourceGetsNoValidator() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/articles/1").ifNoneMatch("\"x\""));
+
+        StepVerifier.create(ConditionalGet.respond(exchange, "article-1", Mono.<ArticleDto>empty(), ConditionalGet::article))
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+    }
+
+    private <T> Mono<T> respond(MockServerWebExchange exchange, String resource, T body, Function<T, ?> content) {
+        return ConditionalGet.respond(exchange, resource, Mono.fromSupplier(() -> {
+            fetched.incrementAndGet();
+            return body;
+        }), content);
+    }
+
+    private static <T> String etagOf(String resource, T body, Function<T, ?> content) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        ConditionalGet.respond(exchange, resource, Mono.just(body), content).block();
+        return exchange.getResponse().getHeaders().getETag();
+    }
+
+    private static ArticleDto article(Long contentVersion) {
+        return ArticleDto.builder()
+                .id(1L)
+                .title("Title")
+                .content("Content")
+                .author(UserDto.builder().id(7L).username("jdoe").firstName("John").lastName("Doe").build())
+                .comments(List.of(comment()))
+                .views(10)
+                .likes(2)
+                .contentVersion(contentVersion)
+                .updatedAt(UPDATED)
+                .build();
+    }
+
+    private static CommentDto comment() {
+        return CommentDto.builder()
+                .id(5L)
+                .content("Nice")
+                .author(AuthorDto.builder().id(8L).username("reader").displayName("Reader").build())
+                .build();
+    }
+
+    private static ArticleSummaryDto summary(String title, int views) {
+        return ArticleSummaryDto.builder()
+                .id(1L)
+                .title(title)
+                .author(AuthorDto.builder().id(7L).username("jdoe").displayName("John Doe").build())
+                .views(views)
+                .updatedAt(UPDATED)
+                .build();
+    }
+
+    private static PageImpl<ArticleSummaryDto> page(ArticleSummaryDto summary, long total) {
+        return new PageImpl<>(List.of(summary), PageRequest.of(0, 1), total);
+    }
+}